@@ -10,7 +10,9 @@ import proje.com.saucedemo.config.WebDriverConfig;
 import proje.com.saucedemo.pages.*;
 import proje.com.saucedemo.utils.TestDataGenerator;
 import proje.com.saucedemo.utils.HTMLReportGenerator;
+import proje.com.saucedemo.utils.StepScope;
 
+import proje.com.saucedemo.verification.PerformanceBudget;
 import proje.com.saucedemo.verification.VerificationHelper;
 
 import java.util.List;
@@ -29,6 +31,9 @@ public class AutomationExerciseCompleteTest {
     private static WebDriver driver;
     private static WebDriverConfig webDriverConfig;
     private static VerificationHelper verificationHelper;
+    
+    // Adımlarda doğrulanan performans bütçeleri (budgets/<ad>.properties)
+    private static final List<String> BUDGETS = List.of("signup", "products", "cart", "checkout");
 
     
     // Sayfa Nesneleri
@@ -39,6 +44,9 @@ public class AutomationExerciseCompleteTest {
     private static CheckoutPage checkoutPage;
     private static PaymentPage paymentPage;
     
+    // Aktif test adımının network sayaç kapsamı
+    private StepScope stepScope;
+    
     // Test Verileri
     private static String userEmail;
     private static String userPassword;
@@ -55,7 +63,49 @@ public class AutomationExerciseCompleteTest {
             
             // Test adımı izlemeyi etkinleştir - sadece kullanıcı etkileşimlerini izle
             if (webDriverConfig.isDevToolsAvailable()) {
+                // Varsayılan: HEADERS yakalama, temel sayaçlar ve console
                 webDriverConfig.enableTestStepMonitoring();
+                webDriverConfig.enableConsoleLogging();
+                // Ağır izleyiciler isteğe bağlıdır: -Ddevtools.<özellik>=true
+                if (Boolean.getBoolean("devtools.performance")) {
+                    webDriverConfig.enablePerformanceMonitoring();
+                }
+                if (Boolean.getBoolean("devtools.childTargets")) {
+                    webDriverConfig.enableChildTargetMonitoring();
+                }
+                if (Boolean.getBoolean("devtools.websocket")) {
+                    webDriverConfig.enableWebSocketMonitoring();
+                }
+                if (Boolean.getBoolean("devtools.cache.stats")) {
+                    webDriverConfig.enableCacheStats();
+                }
+                // LCP sınırı tanımlı bütçeler web vitals olmadan ölçülemez
+                if (Boolean.getBoolean("devtools.vitals") || budgetsRequireLcp()) {
+                    webDriverConfig.enableWebVitalsMonitoring();
+                }
+                // Bloklama önbellekten önce çalışmalı ki bloklanan istekler diskten de yanıtlanmasın
+                webDriverConfig.applyBlockingProfile(System.getProperty("devtools.blocking.profile", "full"));
+                webDriverConfig.enableNetworkCache();
+                // Network profili matrisi: mvn test -Pnetwork-matrix (bkz. pom.xml)
+                webDriverConfig.applyNetworkConditions(System.getProperty("devtools.network.profile", "NONE"));
+                webDriverConfig.applyCpuThrottling(AutomationExerciseCompleteTest.class);
+                if (Boolean.getBoolean("devtools.stepTimings")) {
+                    webDriverConfig.enableStepTimingReport();
+                }
+                webDriverConfig.enableTracing();
+                webDriverConfig.enableMemoryLeakDetection();
+                webDriverConfig.enableCoverageCollection();
+                webDriverConfig.enableNetworkIdleWaits();
+                if (Boolean.getBoolean("devtools.criticalChain")) {
+                    webDriverConfig.enableCriticalChainAnalysis();
+                }
+                if (Boolean.getBoolean("devtools.har")) {
+                    webDriverConfig.enableHarExport(AutomationExerciseCompleteTest.class.getSimpleName());
+                }
+                // Ana sayfa için soğuk/sıcak önbellek karşılaştırması: -Ddevtools.cache.compare=true
+                if (Boolean.getBoolean("devtools.cache.compare")) {
+                    webDriverConfig.compareColdWarmCache(BASE_URL);
+                }
                 logger.info("Test adımı izleme etkinleştirildi - sadece kullanıcı etkileşimleri ve form gönderimleri loglanacak");
             } else {
                 logger.warn("DevTools kullanılamıyor - test adımı izleme devre dışı");
@@ -88,6 +138,14 @@ public class AutomationExerciseCompleteTest {
         }
     }
     
+    /**
+     * Yüklenen bütçelerden herhangi biri LCP sınırı tanımlıyor mu?
+     */
+    private static boolean budgetsRequireLcp() {
+        return BUDGETS.stream()
+                .anyMatch(name -> PerformanceBudget.load(name).maxLcpMillis() != PerformanceBudget.NOT_SET);
+    }
+    
     @AfterAll
     static void tearDown() {
         try {
@@ -114,6 +172,19 @@ public class AutomationExerciseCompleteTest {
         }
     }
     
+    @BeforeEach
+    void beginStep(TestInfo testInfo) {
+        // Adım sınırları performance metrik farkları için kullanılır
+        webDriverConfig.beginStep(testInfo.getDisplayName());
+        stepScope = webDriverConfig.openStepScope(testInfo.getDisplayName());
+    }
+    
+    @AfterEach
+    void endStep() {
+        stepScope.close();
+        webDriverConfig.endStep();
+    }
+    
     @Test
     @Order(1)
     @DisplayName("Adım 1: AutomationExercise'e Git ve Hesap Oluştur")
@@ -125,16 +196,18 @@ public class AutomationExerciseCompleteTest {
             
             // Siteye açık bekleme ile git
             logger.info("Siteye gidiliyor: {}", BASE_URL);
+            webDriverConfig.beginPageCoverage(homePage);
             driver.get(BASE_URL);
             
-            // Sayfanın tamamen yüklenmesini bekle
-            Thread.sleep(3000);
+            // Sayfanın yüklenip network'ün durulmasını bekle
+            webDriverConfig.waitForPageSettled(3000);
             logger.info("Sayfa başarıyla yüklendi");
             
 
             
             // Kayıt/giriş linkine yeniden deneme mekanizması ile tıkla
             logger.info("Kayıt/giriş linkine tıklamaya çalışılıyor...");
+            webDriverConfig.beginPageCoverage(signupLoginPage);
             int maxRetries = 3;
             for (int i = 0; i < maxRetries; i++) {
                 try {
@@ -149,19 +222,19 @@ public class AutomationExerciseCompleteTest {
             }
             
             // Kayıt sayfasının yüklenmesini bekle
-            Thread.sleep(3000);
+            webDriverConfig.waitForPageSettled(3000);
             
             // Kayıt sürecini başlat
             logger.info("Kullanıcı için kayıt başlatılıyor: {} e-posta ile: {}", userName, userEmail);
             signupLoginPage.startSignup(userName, userEmail);
             
             // E-posta zaten var mı kontrol et
-            Thread.sleep(2000);
+            webDriverConfig.waitForPageSettled(2000);
             if (signupLoginPage.isSignupEmailExists()) {
                 logger.info("E-posta zaten mevcut, farklı e-posta ile deneme yapılıyor");
                 userEmail = "test" + System.currentTimeMillis() + "@example.com";
                 signupLoginPage.startSignup(userName, userEmail);
-                Thread.sleep(2000);
+                webDriverConfig.waitForPageSettled(2000);
             }
             
             // Hesap bilgilerini doldur
@@ -191,7 +264,7 @@ public class AutomationExerciseCompleteTest {
             signupLoginPage.createAccount();
             
             // Hesap oluşturma işlemini bekle
-            Thread.sleep(5000);
+            webDriverConfig.waitForPageSettled(5000);
             
             // Hesap oluşturmayı doğrula
             boolean accountCreated = signupLoginPage.isAccountCreated();
@@ -203,8 +276,8 @@ public class AutomationExerciseCompleteTest {
             
             // Bu test adımı için ağ istatistiklerini logla
             if (webDriverConfig.isDevToolsAvailable()) {
-                var networkStats = webDriverConfig.getNetworkStats();
-                logger.info("Adım 1 Ağ İstatistikleri: {}", networkStats);
+                logger.info("Adım 1 Ağ İstatistikleri: {}", stepScope.delta());
+                verificationHelper.verifyStepBudget("signup", webDriverConfig.measureStep(stepScope));
             }
             
             logger.info("=== Adım 1 tamamlandı: Hesap başarıyla oluşturuldu ===");
@@ -226,11 +299,12 @@ public class AutomationExerciseCompleteTest {
             
             // Ürünler sayfasına yeniden deneme ile git
             logger.info("Ürünler sayfasına gidiliyor...");
+            webDriverConfig.beginPageCoverage(productsPage);
             int maxRetries = 3;
             for (int i = 0; i < maxRetries; i++) {
                 try {
                     productsPage.navigateToProducts();
-                    Thread.sleep(3000);
+                    webDriverConfig.waitForPageSettled(3000);
                     verificationHelper.verifyPageLoaded("Ürünler sayfası", productsPage.isPageLoaded());
                     logger.info("Ürünler sayfasına başarıyla gidildi");
                     break;
@@ -247,9 +321,9 @@ public class AutomationExerciseCompleteTest {
             for (int i = 0; i < productRetries; i++) {
                 try {
                     productsPage.addRandomProductToCart();
-                    Thread.sleep(3000);
+                    webDriverConfig.waitForPageSettled(3000);
                     productsPage.clickContinueShopping();
-                    Thread.sleep(2000);
+                    webDriverConfig.waitForPageSettled(2000);
                     logger.info("İlk ürün sepete başarıyla eklendi");
                     break;
                 } catch (Exception e) {
@@ -264,7 +338,7 @@ public class AutomationExerciseCompleteTest {
             for (int i = 0; i < productRetries; i++) {
                 try {
                     productsPage.addRandomProductToCart();
-                    Thread.sleep(3000);
+                    webDriverConfig.waitForPageSettled(3000);
                     logger.info("İkinci ürün sepete başarıyla eklendi");
                     break;
                 } catch (Exception e) {
@@ -278,8 +352,8 @@ public class AutomationExerciseCompleteTest {
             
             // Bu test adımı için ağ istatistiklerini logla
             if (webDriverConfig.isDevToolsAvailable()) {
-                var networkStats = webDriverConfig.getNetworkStats();
-                logger.info("Adım 2 Ağ İstatistikleri: {}", networkStats);
+                logger.info("Adım 2 Ağ İstatistikleri: {}", stepScope.delta());
+                verificationHelper.verifyStepBudget("products", webDriverConfig.measureStep(stepScope));
             }
             
             logger.info("=== Adım 2 tamamlandı: Ürünler sepete eklendi ===");
@@ -300,11 +374,12 @@ public class AutomationExerciseCompleteTest {
             
             // Sepete yeniden deneme ile git
             logger.info("Sepet sayfasına gidiliyor...");
+            webDriverConfig.beginPageCoverage(cartPage);
             int maxRetries = 3;
             for (int i = 0; i < maxRetries; i++) {
                 try {
                     cartPage.navigateToCart();
-                    Thread.sleep(3000);
+                    webDriverConfig.waitForPageSettled(3000);
                     verificationHelper.verifyPageLoaded("Sepet sayfası", cartPage.isPageLoaded());
                     logger.info("Sepet sayfasına başarıyla gidildi");
                     break;
@@ -316,7 +391,7 @@ public class AutomationExerciseCompleteTest {
             }
             
             // Sepetin boş olmadığını doğrula
-            Thread.sleep(2000);
+            webDriverConfig.waitForPageSettled(2000);
             verificationHelper.verifyCartNotEmpty(cartPage.getCartItemsCount() > 0);
             
             // Ürünleri al ve doğrula
@@ -331,8 +406,8 @@ public class AutomationExerciseCompleteTest {
             
             // Bu test adımı için ağ istatistiklerini logla
             if (webDriverConfig.isDevToolsAvailable()) {
-                var networkStats = webDriverConfig.getNetworkStats();
-                logger.info("Adım 3 Ağ İstatistikleri: {}", networkStats);
+                logger.info("Adım 3 Ağ İstatistikleri: {}", stepScope.delta());
+                verificationHelper.verifyStepBudget("cart", webDriverConfig.measureStep(stepScope));
             }
             
             logger.info("=== Adım 3 tamamlandı: Sepet doğrulaması başarılı ===");
@@ -353,11 +428,12 @@ public class AutomationExerciseCompleteTest {
             
             // Ödemeye yeniden deneme ile devam et
             logger.info("Ödemeye devam ediliyor...");
+            webDriverConfig.beginPageCoverage(checkoutPage);
             int checkoutRetries = 3;
             for (int i = 0; i < checkoutRetries; i++) {
                 try {
                     cartPage.clickProceedToCheckout();
-                    Thread.sleep(5000);
+                    webDriverConfig.waitForPageSettled(5000);
                     logger.info("Ödemeye başarıyla devam edildi");
                     break;
                 } catch (Exception e) {
@@ -381,13 +457,14 @@ public class AutomationExerciseCompleteTest {
                 checkoutInfo.getPhone(),
                 checkoutInfo.getCountry()
             );
-            Thread.sleep(2000);
+            webDriverConfig.waitForPageSettled(2000);
             
             // Yorum ekle ve sipariş ver
             logger.info("Yorum ekleniyor ve sipariş veriliyor...");
             checkoutPage.addComment("DevTools test siparişi - " + System.currentTimeMillis());
+            webDriverConfig.beginPageCoverage(paymentPage);
             checkoutPage.clickPlaceOrder();
-            Thread.sleep(5000);
+            webDriverConfig.waitForPageSettled(5000);
             
             logger.info("Ödeme Detayları - İsim: {} {} | Adres: {} | Şehir: {} | Ülke: {}", 
                 checkoutInfo.getFirstName(), checkoutInfo.getLastName(),
@@ -398,7 +475,7 @@ public class AutomationExerciseCompleteTest {
             // Ödemeyi tamamla
             logger.info("Ödeme tamamlanıyor...");
             paymentPage.completePaymentWithRandomData();
-            Thread.sleep(3000);
+            webDriverConfig.waitForPageSettled(3000);
             
             verificationHelper.verifyOrderPlaced(paymentPage.isOrderPlaced());
             
@@ -408,15 +485,15 @@ public class AutomationExerciseCompleteTest {
             // Faturayı indir ve devam et
             logger.info("Fatura indiriliyor ve devam ediliyor...");
             paymentPage.clickDownloadInvoice();
-            Thread.sleep(2000);
+            webDriverConfig.waitForPageSettled(2000);
             paymentPage.clickContinue();
-            Thread.sleep(2000);
+            webDriverConfig.waitForPageSettled(2000);
             
 
             // Bu test adımı için ağ istatistiklerini logla
             if (webDriverConfig.isDevToolsAvailable()) {
-                var networkStats = webDriverConfig.getNetworkStats();
-                logger.info("Adım 4 Ağ İstatistikleri: {}", networkStats);
+                logger.info("Adım 4 Ağ İstatistikleri: {}", stepScope.delta());
+                verificationHelper.verifyStepBudget("checkout", webDriverConfig.measureStep(stepScope));
             }
             
             logger.info("Ödeme başarıyla tamamlandı");
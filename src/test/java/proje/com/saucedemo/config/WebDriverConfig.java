@@ -9,7 +9,13 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import proje.com.saucedemo.utils.CacheStatsCollector;
+import proje.com.saucedemo.utils.CpuThrottling;
 import proje.com.saucedemo.utils.DevToolsHelper;
+import proje.com.saucedemo.utils.NetworkConditions;
+import proje.com.saucedemo.utils.NetworkCounters;
+import proje.com.saucedemo.utils.StepPerformance;
+import proje.com.saucedemo.utils.StepScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -187,6 +193,276 @@ public class WebDriverConfig {
         }
     }
     
+    /**
+     * Performance metrik örneklemeyi etkinleştirir (periyodik ve test adımı sınırlarında)
+     */
+    public void enablePerformanceMonitoring() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enablePerformanceMonitoring();
+            logger.info("Performance monitoring enabled");
+        } else {
+            logger.warn("DevTools not available for performance monitoring");
+        }
+    }
+    
+    /**
+     * Core Web Vitals izlemeyi etkinleştirir (her navigasyon için LCP, CLS, INP/FID, FCP, TTFB)
+     */
+    public void enableWebVitalsMonitoring() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableWebVitalsMonitoring();
+            logger.info("Web vitals monitoring enabled");
+        } else {
+            logger.warn("DevTools not available for web vitals monitoring");
+        }
+    }
+    
+    /**
+     * Network trafiğini HAR dosyasına yazmayı etkinleştirir
+     * @param name Dosya adı öneki (genelde test sınıfı adı)
+     */
+    public void enableHarExport(String name) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableHarExport(name);
+            logger.info("HAR export enabled");
+        } else {
+            logger.warn("DevTools not available for HAR export");
+        }
+    }
+    
+    /**
+     * İsimlendirilmiş kaynak bloklama profilini uygular (functional, full veya özel)
+     */
+    public void applyBlockingProfile(String profileName) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.applyBlockingProfile(profileName);
+        } else {
+            logger.warn("DevTools not available for blocking profiles");
+        }
+    }
+    
+    /**
+     * Network koşulu emülasyonu uygular (NONE, OFFLINE, SLOW_3G, 3G, 4G, DSL veya custom:latency=..,down=..,up=..)
+     */
+    public void applyNetworkConditions(String profile) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.applyNetworkConditions(NetworkConditions.parse(profile));
+        } else {
+            logger.warn("DevTools not available for network emulation");
+        }
+    }
+    
+    /**
+     * Test sınıfının {@link CpuThrottling} anotasyonundaki CPU yavaşlatma oranını uygular
+     * devtools.cpu.rate sistem property'si anotasyonu ezer; ikisi de yoksa yavaşlatma yapılmaz
+     */
+    public void applyCpuThrottling(Class<?> testClass) {
+        CpuThrottling annotation = testClass.getAnnotation(CpuThrottling.class);
+        String override = System.getProperty("devtools.cpu.rate");
+        double rate = override != null ? Double.parseDouble(override) : annotation != null ? annotation.value() : 1;
+        if (rate <= 1) {
+            return;
+        }
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.setCpuThrottlingRate(rate);
+        } else {
+            logger.warn("DevTools not available for CPU throttling");
+        }
+    }
+    
+    /**
+     * Adım bazında süre/gecikme CSV raporunu etkinleştirir
+     */
+    public void enableStepTimingReport() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableStepTimingReport();
+        } else {
+            logger.warn("DevTools not available for step timing report");
+        }
+    }
+    
+    /**
+     * Kayıt/tekrar oynatma network önbelleğini etkinleştirir (devtools.cache.mode)
+     */
+    public void enableNetworkCache() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableNetworkCache();
+        } else {
+            logger.warn("DevTools not available for network cache");
+        }
+    }
+    
+    /**
+     * Test adımları için Chrome trace kaydını etkinleştirir (devtools.tracing.mode)
+     */
+    public void enableTracing() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableTracing();
+        } else {
+            logger.warn("DevTools not available for tracing");
+        }
+    }
+    
+    /**
+     * Adımlar arası JS heap ve DOM sayacı sızıntı tespitini etkinleştirir
+     */
+    public void enableMemoryLeakDetection() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableMemoryLeakDetection();
+        } else {
+            logger.warn("DevTools not available for memory leak detection");
+        }
+    }
+    
+    /**
+     * Sayfa nesnesi bazında JS/CSS kapsam toplamayı etkinleştirir (devtools.coverage=true ile)
+     */
+    public void enableCoverageCollection() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableCoverageCollection();
+        } else {
+            logger.warn("DevTools not available for coverage collection");
+        }
+    }
+    
+    /**
+     * Verilen sayfa nesnesinin kapsamını başlatır; sayfayı açan navigasyondan önce çağrılmalıdır
+     */
+    public void beginPageCoverage(Object pageObject) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.beginPageCoverage(pageObject.getClass().getSimpleName());
+        }
+    }
+    
+    /**
+     * Iframe, worker ve popup hedeflerine otomatik bağlanmayı etkinleştirir
+     */
+    public void enableChildTargetMonitoring() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableChildTargetMonitoring();
+        } else {
+            logger.warn("DevTools not available for child target monitoring");
+        }
+    }
+    
+    /**
+     * WebSocket frame izlemeyi etkinleştirir
+     */
+    public void enableWebSocketMonitoring() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableWebSocketMonitoring();
+        } else {
+            logger.warn("DevTools not available for WebSocket monitoring");
+        }
+    }
+    
+    /**
+     * Önbellek etkinliği ölçümünü etkinleştirir
+     */
+    public void enableCacheStats() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableCacheStats();
+        } else {
+            logger.warn("DevTools not available for cache statistics");
+        }
+    }
+    
+    /**
+     * Sayfanın soğuk (önbelleksiz) ve sıcak yüklenmesini karşılaştırır; DevTools yoksa null döner
+     */
+    public CacheStatsCollector.Comparison compareColdWarmCache(String url) {
+        if (devToolsHelper == null || !devToolsHelper.isEnabled()) {
+            logger.warn("DevTools not available for cache comparison");
+            return null;
+        }
+        try {
+            return devToolsHelper.compareColdWarmCache(url);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            logger.error("Cache comparison failed for {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Navigasyon bazında kritik istek zinciri analizini etkinleştirir
+     */
+    public void enableCriticalChainAnalysis() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableCriticalChainAnalysis();
+        } else {
+            logger.warn("DevTools not available for critical chain analysis");
+        }
+    }
+    
+    /**
+     * Network idle ve load olayı beklemelerini etkinleştirir
+     */
+    public void enableNetworkIdleWaits() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.enableNetworkIdleWaits();
+        } else {
+            logger.warn("DevTools not available for network idle waits");
+        }
+    }
+    
+    /**
+     * Sayfa oturana kadar bekler; DevTools yoksa verilen sabit süre kadar uyur
+     * @param fallbackSleepMillis DevTools kullanılamadığında beklenecek süre
+     * @return Beklenen süre (ms)
+     */
+    public long waitForPageSettled(long fallbackSleepMillis) throws InterruptedException {
+        if (devToolsHelper != null && devToolsHelper.isNetworkIdleWaitAvailable()) {
+            return devToolsHelper.waitForPageSettled(fallbackSleepMillis);
+        }
+        Thread.sleep(fallbackSleepMillis);
+        return fallbackSleepMillis;
+    }
+    
+    /**
+     * Network idle olana kadar bekler; DevTools yoksa timeout kadar uyur
+     * @return Beklenen süre (ms)
+     */
+    public long waitForNetworkIdle(long quietMillis, int maxInflight, long timeoutMillis) throws InterruptedException {
+        if (devToolsHelper != null && devToolsHelper.isNetworkIdleWaitAvailable()) {
+            return devToolsHelper.waitForNetworkIdle(quietMillis, maxInflight, timeoutMillis);
+        }
+        Thread.sleep(timeoutMillis);
+        return timeoutMillis;
+    }
+    
+    /**
+     * Load olayını bekler; DevTools yoksa timeout kadar uyur
+     * @return Beklenen süre (ms)
+     */
+    public long waitForLoadEvent(long timeoutMillis) throws InterruptedException {
+        if (devToolsHelper != null && devToolsHelper.isNetworkIdleWaitAvailable()) {
+            return devToolsHelper.waitForLoadEvent(timeoutMillis);
+        }
+        Thread.sleep(timeoutMillis);
+        return timeoutMillis;
+    }
+    
+    /**
+     * Test adımı başlangıcını DevTools dinleyicilerine bildirir
+     */
+    public void beginStep(String stepName) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.beginStep(stepName);
+        }
+    }
+    
+    /**
+     * Aktif test adımının bittiğini DevTools dinleyicilerine bildirir
+     */
+    public void endStep() {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            devToolsHelper.endStep();
+        }
+    }
+    
     /**
      * Belirli URL'leri engeller
      */
@@ -198,6 +474,27 @@ public class WebDriverConfig {
         }
     }
     
+    /**
+     * Adım kapsamlı network istatistikleri açar; DevTools yoksa boş farklar üreten kapsam döner
+     */
+    public StepScope openStepScope(String name) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            return devToolsHelper.step(name);
+        }
+        return new StepScope(name, () -> NetworkCounters.Snapshot.EMPTY, delta -> { });
+    }
+    
+    /**
+     * Adımın bütçe ölçümlerini toplar; DevTools yoksa tüm ölçümler NaN döner ve bütçe kontrolü atlanır
+     */
+    public StepPerformance measureStep(StepScope scope) {
+        if (devToolsHelper != null && devToolsHelper.isEnabled()) {
+            return devToolsHelper.measureStep(scope);
+        }
+        logger.warn("DevTools not available for step budget measurement");
+        return new StepPerformance(scope.getName(), 0, 0, Double.NaN, Double.NaN, Double.NaN);
+    }
+    
     /**
      * Network istatistiklerini alır
      */
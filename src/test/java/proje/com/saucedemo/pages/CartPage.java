@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import proje.com.saucedemo.utils.DomMutationWaiter;
 
 import java.time.Duration;
 import java.util.List;
@@ -18,6 +19,7 @@ public class CartPage {
     private static final Logger logger = LoggerFactory.getLogger(CartPage.class);
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final DomMutationWaiter domWaiter;
 
     // Locator'lar - GitHub projesine göre güncellendi
     private final By cartTitle = By.cssSelector("#cart_info_table");
@@ -39,6 +41,7 @@ public class CartPage {
     public CartPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.domWaiter = new DomMutationWaiter(driver);
     }
 
     /**
@@ -138,11 +141,13 @@ public class CartPage {
         List<WebElement> deleteButtons = driver.findElements(this.deleteButtons);
         
         for (WebElement deleteButton : deleteButtons) {
+            String rowId = deleteButton.findElement(By.xpath("./ancestor::tr")).getAttribute("id");
             deleteButton.click();
-            try {
-                Thread.sleep(1000); // Silme işleminin tamamlanmasını bekle
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            // Silme işleminin tamamlanmasını bekle - satır DOM'dan çıkınca devam edilir
+            if (rowId != null && !rowId.isEmpty()) {
+                domWaiter.waitForDisappear("#" + rowId, Duration.ofSeconds(10));
+            } else {
+                wait.until(ExpectedConditions.stalenessOf(deleteButton));
             }
         }
         logger.info("Sepetteki tüm ürünler silindi");
@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import proje.com.saucedemo.utils.DomMutationWaiter;
 
 import java.time.Duration;
 import java.util.List;
@@ -18,6 +19,7 @@ public class CheckoutPage {
     private static final Logger logger = LoggerFactory.getLogger(CheckoutPage.class);
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final DomMutationWaiter domWaiter;
 
     // Locator'lar
     private final By checkoutTitle = By.cssSelector(".breadcrumbs h2");
@@ -44,6 +46,7 @@ public class CheckoutPage {
     public CheckoutPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        this.domWaiter = new DomMutationWaiter(driver);
     }
 
     /**
@@ -64,12 +67,8 @@ public class CheckoutPage {
             }
         }
         
-        // Sayfanın tamamen yüklenmesi için ek bekleme
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Adres bloğunun render edilmesini bekle
+        domWaiter.waitForAppear("#address_delivery", Duration.ofSeconds(5));
         
         logger.info("Ödeme sayfasına başarıyla gidildi");
     }
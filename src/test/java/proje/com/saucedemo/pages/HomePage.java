@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import proje.com.saucedemo.utils.DomMutationWaiter;
 
 import java.time.Duration;
 import java.util.List;
@@ -18,6 +19,7 @@ public class HomePage {
     private static final Logger logger = LoggerFactory.getLogger(HomePage.class);
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final DomMutationWaiter domWaiter;
 
     // Locator'lar
     private final By signupLoginLink = By.cssSelector("a[href='/login']");
@@ -36,6 +38,7 @@ public class HomePage {
     public HomePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.domWaiter = new DomMutationWaiter(driver);
     }
 
     /**
@@ -120,10 +123,9 @@ public class HomePage {
             randomButton.click();
             
             // Başarı mesajı veya modal için bekle
-            try {
-                wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".modal-content")));
+            if (domWaiter.waitForAppear(".modal-content", Duration.ofSeconds(15))) {
                 logger.info("Ürün başarıyla sepete eklendi");
-            } catch (Exception e) {
+            } else {
                 logger.info("Ürün sepete eklendi (modal tespit edilmedi)");
             }
         } else {
@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import proje.com.saucedemo.utils.DomMutationWaiter;
 
 import java.time.Duration;
 import java.util.List;
@@ -18,6 +19,7 @@ public class ProductsPage {
     private static final Logger logger = LoggerFactory.getLogger(ProductsPage.class);
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final DomMutationWaiter domWaiter;
 
     // Locator'lar
     private final By productsTitle = By.cssSelector(".features_items h2");
@@ -46,6 +48,7 @@ public class ProductsPage {
     public ProductsPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.domWaiter = new DomMutationWaiter(driver);
     }
 
     /**
@@ -114,10 +117,9 @@ public class ProductsPage {
             randomButton.click();
             
             // Başarı mesajı veya modal için bekle
-            try {
-                wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".modal-content")));
+            if (domWaiter.waitForAppear(".modal-content", Duration.ofSeconds(15))) {
                 logger.info("Ürün başarıyla sepete eklendi");
-            } catch (Exception e) {
+            } else {
                 logger.info("Ürün sepete eklendi (modal tespit edilmedi)");
             }
         } else {
@@ -142,10 +144,9 @@ public class ProductsPage {
             button.click();
             
             // Başarı mesajı veya modal için bekle
-            try {
-                wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".modal-content")));
+            if (domWaiter.waitForAppear(".modal-content", Duration.ofSeconds(15))) {
                 logger.info("Ürün başarıyla sepete eklendi");
-            } catch (Exception e) {
+            } else {
                 logger.info("Ürün sepete eklendi (modal tespit edilmedi)");
             }
         } else {
@@ -266,6 +267,8 @@ public class ProductsPage {
         try {
             WebElement continueBtn = wait.until(ExpectedConditions.elementToBeClickable(continueShoppingButton));
             continueBtn.click();
+            // Modal kapanmadan sonraki ürüne tıklanmasın
+            domWaiter.waitForDisappear(".modal-content", Duration.ofSeconds(5));
             logger.info("Alışverişe Devam Et butonuna başarıyla tıklandı");
         } catch (Exception e) {
             logger.warn("Alışverişe Devam Et butonu bulunamadı");
@@ -0,0 +1,22 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Olay kuyruğu dolduğunda CDP callback'inin davranışı
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Yer açılana kadar CDP thread'ini beklet - hiçbir olay kaybolmaz
+     */
+    BLOCK,
+
+    /**
+     * Kuyruktaki en eski olayı at ve yenisini ekle
+     */
+    DROP_OLDEST,
+
+    /**
+     * Kuyruk yarıdan fazla doluyken sadece her N. olayı kabul et, tamamen doluyken at
+     */
+    SAMPLE
+}
@@ -0,0 +1,118 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.ResourceType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * İsimlendirilmiş kaynak bloklama profili - CDP ResourceType ve Fetch URL desenleri ile eşleşir
+ * Profiller classpath'teki blocking-profiles.properties dosyasından ve isteğe bağlı
+ * devtools.blocking.profilesFile dosyasından yüklenir
+ *
+ * @param name Profil adı
+ * @param resourceTypes Bloklanan kaynak tipleri
+ * @param urlPatterns Bloklanan Fetch URL desenleri (* ve ? joker karakterleri)
+ */
+public record BlockingProfile(String name, Set<ResourceType> resourceTypes, List<String> urlPatterns) {
+
+    private static final String RESOURCE = "blocking-profiles.properties";
+
+    public BlockingProfile {
+        resourceTypes = resourceTypes.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(resourceTypes));
+        urlPatterns = List.copyOf(urlPatterns);
+    }
+
+    /**
+     * Profil hiçbir şey bloklamıyor mu?
+     */
+    public boolean isEmpty() {
+        return resourceTypes.isEmpty() && urlPatterns.isEmpty();
+    }
+
+    /**
+     * URL desenlerini eşleştirme için regex'e çevirir
+     */
+    public List<Pattern> compiledUrlPatterns() {
+        List<Pattern> compiled = new ArrayList<>(urlPatterns.size());
+        for (String glob : urlPatterns) {
+            StringBuilder regex = new StringBuilder();
+            for (char c : glob.toCharArray()) {
+                if (c == '*') {
+                    regex.append(".*");
+                } else if (c == '?') {
+                    regex.append('.');
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            compiled.add(Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE));
+        }
+        return compiled;
+    }
+
+    /**
+     * İsimle profil yükler
+     * @throws IllegalArgumentException Profil tanımlı değilse
+     */
+    public static BlockingProfile load(String name) {
+        Properties properties = loadProperties();
+        String types = properties.getProperty(name + ".resourceTypes");
+        String patterns = properties.getProperty(name + ".urlPatterns");
+        if (types == null && patterns == null) {
+            throw new IllegalArgumentException("Unknown blocking profile: " + name);
+        }
+
+        Set<ResourceType> resourceTypes = EnumSet.noneOf(ResourceType.class);
+        for (String type : split(types)) {
+            resourceTypes.add(ResourceType.fromString(type));
+        }
+        return new BlockingProfile(name, resourceTypes, split(patterns));
+    }
+
+    private static Properties loadProperties() {
+        Properties properties = new Properties();
+        try (InputStream input = BlockingProfile.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input != null) {
+                properties.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+            }
+            String customFile = System.getProperty("devtools.blocking.profilesFile");
+            if (customFile != null) {
+                try (Reader reader = Files.newBufferedReader(Paths.get(customFile), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load blocking profiles", e);
+        }
+        return properties;
+    }
+
+    private static List<String> split(String value) {
+        List<String> values = new ArrayList<>();
+        if (value == null) {
+            return values;
+        }
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,86 @@
+package proje.com.saucedemo.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sabit kapasiteli, kilitsiz (lock-free) çok üreticili/çok tüketicili olay kuyruğu
+ * Her slotun sıra numarası üzerinden CAS ile ilerleyen dizi tabanlı halka tampon (Vyukov algoritması)
+ */
+final class BoundedEventQueue {
+
+    private final CdpEvent[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    BoundedEventQueue(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.buffer = new CdpEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Olayı ekler; kuyruk doluysa false döner
+     */
+    boolean offer(CdpEvent event) {
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer[index] = event;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * En eski olayı alır; kuyruk boşsa null döner
+     */
+    CdpEvent poll() {
+        long position = dequeuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    CdpEvent event = buffer[index];
+                    buffer[index] = null;
+                    sequences.set(index, position + mask + 1);
+                    return event;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Yaklaşık kuyruk derinliği
+     */
+    int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,232 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v138.network.model.Response;
+import org.openqa.selenium.devtools.v138.network.model.ResponseReceived;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response'ların fromDiskCache, fromServiceWorker ve fromPrefetchCache bayraklarından önbellek etkinliğini ölçer
+ * Önbellekten gelen yanıtın tasarrufu, aynı URL'nin daha önce network'ten gelen boyutuyla
+ * (yoksa Content-Length header'ı ile) tahmin edilir. Adım sonunda isabet oranı ve tasarruf loglanır
+ */
+public class CacheStatsCollector implements CdpEventSink, StepListener {
+
+    private static final Logger networkLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Network");
+
+    private final int maxTrackedUrls;
+
+    // URL -> network'ten son gelişindeki encoded boyut (en eski URL'ler atılır)
+    private final Map<String, Long> networkSizes;
+    // network'ten gelen ve henüz bitmemiş istekler: requestId -> URL
+    private final Map<String, String> pendingNetwork = new HashMap<>();
+    private final Counters step = new Counters();
+    private final Counters total = new Counters();
+    private final List<StepCacheStats> stepStats = new ArrayList<>();
+
+    public CacheStatsCollector(int maxTrackedUrls) {
+        this.maxTrackedUrls = maxTrackedUrls;
+        this.networkSizes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > CacheStatsCollector.this.maxTrackedUrls;
+            }
+        };
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş toplayıcı oluşturur
+     * devtools.cache.maxTrackedUrls
+     */
+    public static CacheStatsCollector fromSystemProperties() {
+        return new CacheStatsCollector(Integer.getInteger("devtools.cache.maxTrackedUrls", 5000));
+    }
+
+    @Override
+    public synchronized void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case RESPONSE_RECEIVED: {
+                Response response = event.payloadAs(ResponseReceived.class).getResponse();
+                step.responses++;
+                total.responses++;
+                if (flag(response.getFromDiskCache().orElse(null))) {
+                    step.diskHits++;
+                    total.diskHits++;
+                } else if (flag(response.getFromServiceWorker().orElse(null))) {
+                    step.serviceWorkerHits++;
+                    total.serviceWorkerHits++;
+                } else if (flag(response.getFromPrefetchCache().orElse(null))) {
+                    step.prefetchHits++;
+                    total.prefetchHits++;
+                } else {
+                    pendingNetwork.put(event.key(), response.getUrl());
+                    break;
+                }
+                long saved = estimateSize(response);
+                if (saved < 0) {
+                    step.unknownSizeHits++;
+                    total.unknownSizeHits++;
+                } else {
+                    step.bytesSaved += saved;
+                    total.bytesSaved += saved;
+                }
+                break;
+            }
+            case LOADING_FINISHED: {
+                String url = pendingNetwork.remove(event.key());
+                if (url != null) {
+                    networkSizes.put(url, event.payloadAs(LoadingFinished.class).getEncodedDataLength().longValue());
+                }
+                break;
+            }
+            case LOADING_FAILED:
+                pendingNetwork.remove(event.key());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static boolean flag(Boolean value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    /**
+     * Önbellekten gelen yanıtın network'ten gelseydi taşıyacağı byte; bilinmiyorsa -1
+     */
+    private long estimateSize(Response response) {
+        Long known = networkSizes.get(response.getUrl());
+        if (known != null) {
+            return known;
+        }
+        for (Map.Entry<String, Object> header : response.getHeaders().toJson().entrySet()) {
+            if ("content-length".equalsIgnoreCase(header.getKey())) {
+                try {
+                    return Long.parseLong(String.valueOf(header.getValue()).trim());
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adımlar arası (kurulum, karşılaştırma yüklemeleri) trafik adıma yazılmasın
+     */
+    @Override
+    public synchronized void onStepStart(String stepName) {
+        step.reset();
+    }
+
+    /**
+     * Adımın isabet oranını ve tasarrufunu loglar, adım sayaçlarını sıfırlar
+     */
+    @Override
+    public synchronized void onStepEnd(String stepName, long durationMillis) {
+        StepCacheStats stats = step.toStats(stepName);
+        stepStats.add(stats);
+        networkLogger.info("[CDP][Cache] {}", stats);
+        step.reset();
+    }
+
+    /**
+     * Adım bazında önbellek istatistiklerini al
+     */
+    public synchronized List<StepCacheStats> getStepStats() {
+        return new ArrayList<>(stepStats);
+    }
+
+    /**
+     * Oturum boyunca toplam önbellek istatistikleri
+     */
+    public synchronized StepCacheStats getTotalStats() {
+        return total.toStats("session");
+    }
+
+    private static final class Counters {
+        private long responses;
+        private long diskHits;
+        private long serviceWorkerHits;
+        private long prefetchHits;
+        private long unknownSizeHits;
+        private long bytesSaved;
+
+        private StepCacheStats toStats(String name) {
+            return new StepCacheStats(name, responses, diskHits, serviceWorkerHits, prefetchHits, bytesSaved,
+                    unknownSizeHits);
+        }
+
+        private void reset() {
+            responses = 0;
+            diskHits = 0;
+            serviceWorkerHits = 0;
+            prefetchHits = 0;
+            unknownSizeHits = 0;
+            bytesSaved = 0;
+        }
+    }
+
+    /**
+     * Bir adımın önbellek isabetleri
+     * @param bytesSaved Önbellekten gelen yanıtların tahmini network boyutu
+     * @param unknownSizeHits Boyutu tahmin edilemeyen isabetler (bytesSaved'e dahil değil)
+     */
+    public record StepCacheStats(String stepName, long responses, long diskHits, long serviceWorkerHits,
+                                 long prefetchHits, long bytesSaved, long unknownSizeHits) {
+
+        public long hits() {
+            return diskHits + serviceWorkerHits + prefetchHits;
+        }
+
+        public double hitRatio() {
+            return responses > 0 ? (double) hits() / responses : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Step '%s': %d/%d responses from cache (%.1f%%; disk=%d, serviceWorker=%d, prefetch=%d), ~%dKB saved%s",
+                    stepName, hits(), responses, hitRatio() * 100, diskHits, serviceWorkerHits, prefetchHits,
+                    bytesSaved / 1024, unknownSizeHits > 0 ? " (" + unknownSizeHits + " hits of unknown size)" : "");
+        }
+    }
+
+    /**
+     * Aynı sayfanın önbelleksiz (soğuk) ve önbellekli (sıcak) yüklenmesinin karşılaştırması
+     */
+    public record Comparison(String url, Run cold, Run warm) {
+
+        public long loadMillisSaved() {
+            return cold.loadMillis() - warm.loadMillis();
+        }
+
+        public long bytesSaved() {
+            return cold.encodedBytes() - warm.encodedBytes();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: cold[%s], warm[%s], saved %dms and %dKB",
+                    url, cold, warm, loadMillisSaved(), bytesSaved() / 1024);
+        }
+    }
+
+    /**
+     * Tek bir ölçümlü sayfa yüklemesi
+     */
+    public record Run(long loadMillis, long requests, long encodedBytes, long cacheHits) {
+
+        @Override
+        public String toString() {
+            return String.format("load=%dms, requests=%d, transferred=%dKB, cacheHits=%d",
+                    loadMillis, requests, encodedBytes / 1024, cacheHits);
+        }
+    }
+}
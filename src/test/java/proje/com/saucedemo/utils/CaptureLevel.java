@@ -0,0 +1,67 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.v138.network.Network;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Network.enable yakalama seviyesi - tarayıcı tarafı tampon boyutlarını ve kaydedilecek listener'ları belirler
+ * Yüksek hacimli koşularda HEADERS, aşama süreleri için TIMING, inceleme sırasında FULL kullanılır
+ */
+public enum CaptureLevel {
+
+    /** Sadece istek/yanıt header'ları; gövde ve POST verisi tamponlanmaz, dataReceived dinlenmez */
+    HEADERS(false, false),
+
+    /** Header'lar ve ilk byte süresi için dataReceived; gövde tamponlanmaz */
+    TIMING(true, false),
+
+    /** Header'lar, dataReceived ve bodyLimitKb'a kadar gövde ve POST verisi */
+    FULL(true, true);
+
+    private static final int MAX_TOTAL_BUFFER_BYTES = 100 * 1024 * 1024;
+
+    private final boolean dataReceived;
+    private final boolean bodies;
+
+    CaptureLevel(boolean dataReceived, boolean bodies) {
+        this.dataReceived = dataReceived;
+        this.bodies = bodies;
+    }
+
+    /**
+     * devtools.network.capture property'sinden seviyeyi okur (varsayılan HEADERS)
+     */
+    public static CaptureLevel fromSystemProperties() {
+        return valueOf(System.getProperty("devtools.network.capture", "HEADERS").toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * dataReceived listener'ı gerekli mi?
+     */
+    public boolean capturesDataReceived() {
+        return dataReceived;
+    }
+
+    /**
+     * Response gövdeleri ve POST verisi tamponlanıyor mu?
+     */
+    public boolean capturesBodies() {
+        return bodies;
+    }
+
+    /**
+     * Seviyeye uygun tampon boyutlarıyla Network.enable komutu
+     * @param bodyLimitKb FULL seviyesinde kaynak başına gövde ve POST verisi sınırı
+     */
+    public Command<Void> networkEnable(int bodyLimitKb) {
+        int resourceBytes = bodies ? bodyLimitKb * 1024 : 0;
+        return Network.enable(
+                Optional.of(bodies ? MAX_TOTAL_BUFFER_BYTES : 0),
+                Optional.of(resourceBytes),
+                Optional.of(resourceBytes),
+                Optional.empty());
+    }
+}
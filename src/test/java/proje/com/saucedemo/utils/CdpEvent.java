@@ -0,0 +1,50 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * CDP callback'lerinden olay hattına aktarılan kompakt olay kaydı
+ * Callback içinde sadece ham CDP nesnesi ve alınma zamanı tutulur; formatlama tüketici thread'de yapılır
+ *
+ * @param kind Olay türü
+ * @param key Bölümleme anahtarı (network ve WebSocket olaylarında CDP requestId, diğerlerinde null)
+ * @param receivedAtMillis Olayın CDP thread'inde alındığı zaman
+ * @param payload Ham CDP olay nesnesi
+ */
+public record CdpEvent(Kind kind, String key, long receivedAtMillis, Object payload) {
+
+    /**
+     * Olay türleri
+     */
+    public enum Kind {
+        REQUEST_WILL_BE_SENT,
+        RESPONSE_RECEIVED,
+        DATA_RECEIVED,
+        LOADING_FINISHED,
+        LOADING_FAILED,
+        CONSOLE_ENTRY,
+        BINDING_CALLED,
+        PAGE_LIFECYCLE,
+        PAGE_LOAD,
+        TARGET_ATTACHED,
+        TARGET_DETACHED,
+        WS_CREATED,
+        WS_FRAME_SENT,
+        WS_FRAME_RECEIVED,
+        WS_FRAME_ERROR,
+        WS_CLOSED
+    }
+
+    /**
+     * Şu anki zamanla yeni bir olay oluşturur
+     */
+    public static CdpEvent of(Kind kind, String key, Object payload) {
+        return new CdpEvent(kind, key, System.currentTimeMillis(), payload);
+    }
+
+    /**
+     * Payload'u beklenen CDP tipine dönüştürür
+     * @throws ClassCastException Olay türü ile payload tipi eşleşmiyorsa
+     */
+    public <T> T payloadAs(Class<T> type) {
+        return type.cast(payload);
+    }
+}
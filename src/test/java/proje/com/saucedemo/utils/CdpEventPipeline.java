@@ -0,0 +1,225 @@
+package proje.com.saucedemo.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asenkron CDP olay hattı - CDP callback'leri olayları sınırlı, kilitsiz kuyruklara bırakır,
+ * tüketici thread'ler filtreleme, formatlama ve loglamayı yapar
+ * Olaylar anahtarlarına (requestId) göre bölümlenir, böylece bir isteğin olayları sırasıyla işlenir
+ */
+public class CdpEventPipeline implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CdpEventPipeline.class);
+
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final BoundedEventQueue[] queues;
+    private final Thread[] consumers;
+    private final BackpressurePolicy policy;
+    private final int sampleRate;
+    private final List<CdpEventSink> sinks = new CopyOnWriteArrayList<>();
+
+    // Metrikler
+    private final LongAdder published = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+    private final LongAdder sinkErrors = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    /**
+     * @param capacity Bölüm başına kuyruk kapasitesi (2'nin kuvvetine yuvarlanır)
+     * @param consumerCount Tüketici thread sayısı
+     * @param policy Kuyruk dolduğunda uygulanacak politika
+     * @param sampleRate SAMPLE politikasında yüksek doluluktayken kabul edilecek olay oranı (1/N)
+     */
+    public CdpEventPipeline(int capacity, int consumerCount, BackpressurePolicy policy, int sampleRate) {
+        int partitions = Math.max(1, consumerCount);
+        this.policy = policy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.queues = new BoundedEventQueue[partitions];
+        this.consumers = new Thread[partitions];
+        for (int i = 0; i < partitions; i++) {
+            queues[i] = new BoundedEventQueue(capacity);
+            BoundedEventQueue queue = queues[i];
+            Thread consumer = new Thread(() -> consume(queue), "cdp-event-consumer-" + i);
+            consumer.setDaemon(true);
+            consumers[i] = consumer;
+            consumer.start();
+        }
+        logger.info("CDP event pipeline started: {} consumer(s), capacity {}, policy {}",
+                partitions, queues[0].capacity(), policy);
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş bir olay hattı oluşturur
+     * devtools.pipeline.capacity, devtools.pipeline.consumers, devtools.pipeline.policy, devtools.pipeline.sampleRate
+     */
+    public static CdpEventPipeline fromSystemProperties() {
+        return new CdpEventPipeline(
+                Integer.getInteger("devtools.pipeline.capacity", 8192),
+                Integer.getInteger("devtools.pipeline.consumers", 1),
+                BackpressurePolicy.valueOf(System.getProperty("devtools.pipeline.policy", "DROP_OLDEST").toUpperCase()),
+                Integer.getInteger("devtools.pipeline.sampleRate", 10));
+    }
+
+    /**
+     * Olay işleyici ekler
+     */
+    public void addSink(CdpEventSink sink) {
+        sinks.add(sink);
+    }
+
+    /**
+     * Olayı kuyruğa bırakır - CDP callback'inden çağrılır, formatlama veya loglama yapmaz
+     */
+    public void publish(CdpEvent event) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        BoundedEventQueue queue = queues[partition(event.key())];
+
+        switch (policy) {
+            case BLOCK:
+                if (!queue.offer(event)) {
+                    long start = System.nanoTime();
+                    while (!queue.offer(event)) {
+                        if (!running) {
+                            dropped.increment();
+                            return;
+                        }
+                        LockSupport.parkNanos(50_000);
+                    }
+                    blockedNanos.add(System.nanoTime() - start);
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        evicted.increment();
+                    }
+                }
+                break;
+            case SAMPLE:
+                if (queue.size() >= queue.capacity() / 2
+                        && sampleCounter.incrementAndGet() % sampleRate != 0) {
+                    sampledOut.increment();
+                    return;
+                }
+                if (!queue.offer(event)) {
+                    dropped.increment();
+                    return;
+                }
+                break;
+        }
+        published.increment();
+    }
+
+    private int partition(String key) {
+        if (key == null || queues.length == 1) {
+            return 0;
+        }
+        return (key.hashCode() & Integer.MAX_VALUE) % queues.length;
+    }
+
+    private void consume(BoundedEventQueue queue) {
+        long idleNanos = 1_000;
+        while (running || queue.size() > 0) {
+            CdpEvent event = queue.poll();
+            if (event == null) {
+                LockSupport.parkNanos(idleNanos);
+                idleNanos = Math.min(idleNanos * 2, MAX_IDLE_PARK_NANOS);
+                continue;
+            }
+            idleNanos = 1_000;
+            for (CdpEventSink sink : sinks) {
+                try {
+                    sink.onEvent(event);
+                } catch (Exception e) {
+                    sinkErrors.increment();
+                    logger.debug("CDP event sink failed for {}: {}", event.kind(), e.getMessage());
+                }
+            }
+            consumed.increment();
+        }
+    }
+
+    /**
+     * Kuyruktaki tüm olaylar işlenene kadar bekler
+     * @return Zaman aşımından önce boşaldıysa true
+     */
+    public boolean awaitDrained(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (consumed.sum() + evicted.sum() < published.sum()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(MAX_IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Olay hattı metriklerini al
+     */
+    public PipelineStats getStats() {
+        int depth = 0;
+        for (BoundedEventQueue queue : queues) {
+            depth += queue.size();
+        }
+        return new PipelineStats(
+                policy,
+                queues.length * queues[0].capacity(),
+                depth,
+                published.sum(),
+                consumed.sum(),
+                dropped.sum() + evicted.sum(),
+                sampledOut.sum(),
+                TimeUnit.NANOSECONDS.toMillis(blockedNanos.sum()),
+                sinkErrors.sum());
+    }
+
+    /**
+     * Yeni olay kabulünü durdurur, kuyrukları boşaltır ve tüketici thread'leri kapatır
+     */
+    @Override
+    public void close() {
+        awaitDrained(Duration.ofSeconds(5));
+        running = false;
+        for (Thread consumer : consumers) {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.info("CDP event pipeline closed: {}", getStats());
+    }
+
+    /**
+     * Olay hattı metrikleri
+     */
+    public record PipelineStats(BackpressurePolicy policy, int capacity, int queueDepth, long published,
+                                long consumed, long dropped, long sampledOut, long blockedMillis, long sinkErrors) {
+
+        @Override
+        public String toString() {
+            return String.format("PipelineStats{policy=%s, depth=%d/%d, published=%d, consumed=%d, dropped=%d, sampledOut=%d, blocked=%dms, sinkErrors=%d}",
+                    policy, queueDepth, capacity, published, consumed, dropped, sampledOut, blockedMillis, sinkErrors);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Olay hattının tüketici thread'lerinde çalışan olay işleyici
+ * Filtreleme, formatlama ve loglama burada yapılır; CDP bağlantı thread'i hiç beklemez
+ */
+@FunctionalInterface
+public interface CdpEventSink {
+
+    /**
+     * Tek bir olayı işler
+     * Aynı anahtara sahip olaylar her zaman aynı tüketici thread'de ve geliş sırasıyla işlenir
+     */
+    void onEvent(CdpEvent event);
+}
@@ -0,0 +1,269 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.log.Log;
+import org.openqa.selenium.devtools.v138.log.model.LogEntry;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.runtime.Runtime;
+import org.openqa.selenium.devtools.v138.target.Target;
+import org.openqa.selenium.devtools.v138.target.model.AttachedToTarget;
+import org.openqa.selenium.devtools.v138.target.model.DetachedFromTarget;
+import org.openqa.selenium.devtools.v138.target.model.FilterEntry;
+import org.openqa.selenium.devtools.v138.target.model.TargetFilter;
+import org.openqa.selenium.devtools.v138.target.model.TargetInfo;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Iframe, worker ve popup hedeflerini Target.setAutoAttach (flatten) ile otomatik bağlayan izleyici
+ * Her alt hedef aynı WebSocket üzerinde kendi oturumunu alır; Network ve Log bu oturumlarda etkinleştirilir.
+ * Selenium alt oturum olaylarını aynı listener'lara ilettiği için olaylar mevcut olay hattına akar;
+ * hangi hedeften geldikleri frameId (iframe, popup) ve workerId (worker console) üzerinden etiketlenir
+ */
+public class ChildTargetMonitor implements CdpEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChildTargetMonitor.class);
+
+    private static final List<String> AUTO_ATTACH_TYPES = List.of("iframe", "worker", "shared_worker", "service_worker");
+
+    private final DevTools devTools;
+    private final Connection connection;
+    private final CdpEventPipeline eventPipeline;
+    private final Command<Void> networkEnable;
+    private final Supplier<List<Command<?>>> sessionCommands;
+    private String mainTargetId;
+
+    // targetId -> alt hedef (iframe ve popup'larda targetId ana frame id'sine eşittir)
+    private final Map<String, ChildTarget> targets = new ConcurrentHashMap<>();
+    private final AtomicLong mainRequests = new AtomicLong();
+    private final AtomicLong unattributedRequests = new AtomicLong();
+
+    /**
+     * @param networkEnable Alt oturumlara gönderilecek, ana oturumla aynı yakalama seviyesindeki Network.enable
+     * @param sessionCommands Her alt oturuma Network.enable'dan sonra gönderilecek güncel ayar komutları
+     *                        (network/CPU emülasyonu, önbellek, URL bloklama)
+     * @throws IllegalStateException Selenium bağlantısına erişilemiyorsa
+     */
+    public ChildTargetMonitor(DevTools devTools, CdpEventPipeline eventPipeline, Command<Void> networkEnable,
+                              Supplier<List<Command<?>>> sessionCommands) {
+        this.devTools = devTools;
+        this.eventPipeline = eventPipeline;
+        this.networkEnable = networkEnable;
+        this.sessionCommands = sessionCommands;
+        this.connection = connectionOf(devTools);
+    }
+
+    /**
+     * Alt hedeflere otomatik bağlanmayı başlatır
+     */
+    public void start() {
+        mainTargetId = devTools.send(Target.getTargetInfo(Optional.empty())).getTargetId().toString();
+
+        devTools.addListener(Target.attachedToTarget(), attached -> {
+            eventPipeline.publish(CdpEvent.of(CdpEvent.Kind.TARGET_ATTACHED, null, attached));
+            prepareChild(attached);
+        });
+        devTools.addListener(Target.detachedFromTarget(), detached -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.TARGET_DETACHED, null, detached)));
+        // Popup'lar ilişkili hedef olarak otomatik bağlanmaz, oluşturuldukları anda elle bağlanır
+        devTools.addListener(Target.targetCreated(), this::attachPopup);
+
+        devTools.send(Target.setDiscoverTargets(true, Optional.empty()));
+
+        List<FilterEntry> filter = new ArrayList<>();
+        for (String type : AUTO_ATTACH_TYPES) {
+            filter.add(new FilterEntry(Optional.empty(), Optional.of(type)));
+        }
+        devTools.send(Target.setAutoAttach(true, true, Optional.of(true), Optional.of(new TargetFilter(filter))));
+    }
+
+    private void attachPopup(TargetInfo info) {
+        if (!"page".equals(info.getType()) || info.getOpenerId().isEmpty()
+                || !mainTargetId.equals(info.getOpenerId().get().toString())) {
+            return;
+        }
+        // CDP thread'i bloklanmasın diye yanıt beklenmez
+        connection.send(devTools.getCdpSession(), Target.attachToTarget(info.getTargetId(), Optional.of(true)));
+    }
+
+    /**
+     * Alt oturumda domain'leri etkinleştirir, ana oturumun ayarlarını uygular ve bekleyen hedefi devam ettirir
+     * Komutlar aynı bağlantı üzerinden sırayla gider; CDP thread'inde yanıt beklenmez.
+     * Hazırlık yarıda kalsa bile hedef debugger'da asılı kalmasın diye devam komutu her durumda gönderilir
+     */
+    private void prepareChild(AttachedToTarget attached) {
+        SessionID session = new SessionID(attached.getSessionId().toString());
+        String type = attached.getTargetInfo().getType();
+        try {
+            connection.send(session, networkEnable);
+            for (Command<?> command : sessionCommands.get()) {
+                connection.send(session, command);
+            }
+            connection.send(session, Log.enable());
+            if ("iframe".equals(type) || "page".equals(type)) {
+                // İç içe iframe ve worker'lar için de otomatik bağlan
+                connection.send(session, Target.setAutoAttach(true, true, Optional.of(true), Optional.empty()));
+            }
+        } catch (Exception e) {
+            logger.warn("[CDP][Targets] Could not prepare {} target {}: {}", type, attached.getTargetInfo().getUrl(), e.getMessage());
+        } finally {
+            if (attached.getWaitingForDebugger()) {
+                try {
+                    connection.send(session, Runtime.runIfWaitingForDebugger());
+                } catch (Exception e) {
+                    logger.warn("[CDP][Targets] Could not resume {} target {}: {}", type, attached.getTargetInfo().getUrl(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case TARGET_ATTACHED: {
+                TargetInfo info = event.payloadAs(AttachedToTarget.class).getTargetInfo();
+                ChildTarget target = new ChildTarget(info.getTargetId().toString(), info.getType(), info.getUrl());
+                targets.put(target.targetId, target);
+                logger.info("[CDP][Targets] Attached {} {}", target.type, target.url);
+                break;
+            }
+            case TARGET_DETACHED: {
+                Optional<?> targetId = event.payloadAs(DetachedFromTarget.class).getTargetId();
+                ChildTarget target = targetId.isPresent() ? targets.get(targetId.get().toString()) : null;
+                if (target != null) {
+                    target.detached = true;
+                    logger.info("[CDP][Targets] Detached {} {} ({} requests, {} console entries)",
+                            target.type, target.url, target.requests.get(), target.consoleEntries.get());
+                }
+                break;
+            }
+            case REQUEST_WILL_BE_SENT: {
+                ChildTarget target = targetFor(event.payloadAs(RequestWillBeSent.class));
+                if (target != null) {
+                    target.requests.incrementAndGet();
+                }
+                break;
+            }
+            case CONSOLE_ENTRY: {
+                Optional<String> workerId = event.payloadAs(LogEntry.class).getWorkerId();
+                ChildTarget target = workerId.isPresent() ? targets.get(workerId.get()) : null;
+                if (target != null) {
+                    target.consoleEntries.incrementAndGet();
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /**
+     * İsteği frameId üzerinden hedefe bağlar; ana sayfa istekleri için null döner
+     * frameId'siz istekler worker'lardan gelir ve tek worker varsa ona atanır
+     */
+    private ChildTarget targetFor(RequestWillBeSent request) {
+        if (request.getFrameId().isPresent()) {
+            ChildTarget target = targets.get(request.getFrameId().get().toString());
+            if (target == null) {
+                mainRequests.incrementAndGet();
+            }
+            return target;
+        }
+        ChildTarget onlyWorker = null;
+        for (ChildTarget target : targets.values()) {
+            if (!target.detached && target.type.endsWith("worker")) {
+                if (onlyWorker != null) {
+                    unattributedRequests.incrementAndGet();
+                    return null;
+                }
+                onlyWorker = target;
+            }
+        }
+        if (onlyWorker == null) {
+            unattributedRequests.incrementAndGet();
+        }
+        return onlyWorker;
+    }
+
+    /**
+     * Bağlanan tüm alt hedeflerin özetini al
+     */
+    public List<TargetStats> getTargetStats() {
+        List<TargetStats> stats = new ArrayList<>();
+        for (ChildTarget target : targets.values()) {
+            stats.add(new TargetStats(target.targetId, target.type, target.url,
+                    target.requests.get(), target.consoleEntries.get(), target.detached));
+        }
+        return stats;
+    }
+
+    /**
+     * Ana sayfaya ait istek sayısı
+     */
+    public long getMainRequests() {
+        return mainRequests.get();
+    }
+
+    /**
+     * Birden fazla worker aktifken hedefe bağlanamayan istek sayısı
+     */
+    public long getUnattributedRequests() {
+        return unattributedRequests.get();
+    }
+
+    /**
+     * Selenium bağlantıyı dışarı açmadığı için alt oturumlara komut göndermek üzere reflection ile alınır
+     * Selenium 4.34'teki DevTools'un private "connection" alanına dayanır; alan yoksa, tipi değiştiyse veya
+     * erişim engellenirse IllegalStateException fırlatılır ve DevToolsHelper izleyiciyi uyarıyla devre dışı bırakır
+     */
+    private static Connection connectionOf(DevTools devTools) {
+        try {
+            Field field = DevTools.class.getDeclaredField("connection");
+            field.setAccessible(true);
+            return (Connection) field.get(devTools);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // RuntimeException: modül erişim engeli (InaccessibleObjectException) veya alan tipi değişikliği
+            throw new IllegalStateException("Cannot access DevTools connection, Selenium internals changed? " + e, e);
+        }
+    }
+
+    private static final class ChildTarget {
+        private final String targetId;
+        private final String type;
+        private final String url;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong consoleEntries = new AtomicLong();
+        private volatile boolean detached;
+
+        private ChildTarget(String targetId, String type, String url) {
+            this.targetId = targetId;
+            this.type = type;
+            this.url = url;
+        }
+    }
+
+    /**
+     * Bir alt hedefin istek ve console sayaçları
+     */
+    public record TargetStats(String targetId, String type, String url, long requests, long consoleEntries,
+                              boolean detached) {
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: requests=%d, console=%d%s", type, url, requests, consoleEntries,
+                    detached ? " (detached)" : "");
+        }
+    }
+}
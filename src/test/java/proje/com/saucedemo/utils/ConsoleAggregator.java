@@ -0,0 +1,226 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.log.model.LogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Console mesajlarını parmak izine göre gruplayan sınırlı toplayıcı
+ * Mesajdaki URL, id ve sayılar normalize edilip hash'lenir; her parmak izi için sayaç, ilk/son zaman ve
+ * tek bir örnek tutulur. Ham loglama parmak izi başına pencere bazında sınırlanır, adım sonunda özet basılır.
+ * Tablo dolduğunda en uzun süredir görülmeyen parmak izi atılır; yeni mesajlar her zaman loglanır
+ */
+public class ConsoleAggregator implements CdpEventSink, StepListener {
+
+    private static final Logger consoleLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Console");
+
+    private static final Pattern URL = Pattern.compile("\\b(?:https?|wss?|file|blob|data):[^\\s'\"<>)]+");
+    private static final Pattern UUID = Pattern.compile("\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+    private static final Pattern HEX_ID = Pattern.compile("\\b(?:0x)?[0-9a-fA-F]{8,}\\b");
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(?:\\.\\d+)?");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAX_SAMPLE_LENGTH = 500;
+
+    private final int maxFingerprints;
+    private final int rateLimit;
+    private final long rateWindowMillis;
+
+    // Erişim sırasını koruyan (en eski = en uzun süredir görülmeyen) sınırlı parmak izi tablosu;
+    // sadece tüketici thread ve adım sınırlarında erişilir
+    private final Map<Long, Aggregate> aggregates = new LinkedHashMap<>(16, 0.75f, true);
+    private long evictedFingerprints = 0;
+    private long stepEvictedFingerprints = 0;
+
+    public ConsoleAggregator(int maxFingerprints, int rateLimit, long rateWindowMillis) {
+        this.maxFingerprints = maxFingerprints;
+        this.rateLimit = rateLimit;
+        this.rateWindowMillis = rateWindowMillis;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş toplayıcı oluşturur
+     * devtools.console.maxFingerprints, devtools.console.rateLimit, devtools.console.rateWindowMs
+     */
+    public static ConsoleAggregator fromSystemProperties() {
+        return new ConsoleAggregator(
+                Integer.getInteger("devtools.console.maxFingerprints", 500),
+                Integer.getInteger("devtools.console.rateLimit", 5),
+                Long.getLong("devtools.console.rateWindowMs", 10_000L));
+    }
+
+    @Override
+    public void onEvent(CdpEvent event) {
+        if (event.kind() != CdpEvent.Kind.CONSOLE_ENTRY) {
+            return;
+        }
+        LogEntry entry = event.payloadAs(LogEntry.class);
+        String text = entry.getText() != null ? entry.getText() : "";
+        String source = entry.getSource().toString();
+        String template = normalize(text);
+        long fingerprint = fingerprint(entry.getLevel().toString() + '|' + source + '|' + template);
+        long now = event.receivedAtMillis();
+
+        synchronized (this) {
+            Aggregate aggregate = aggregates.get(fingerprint);
+            if (aggregate == null) {
+                if (aggregates.size() >= maxFingerprints) {
+                    Iterator<Aggregate> eldest = aggregates.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    evictedFingerprints++;
+                    stepEvictedFingerprints++;
+                }
+                aggregate = new Aggregate(entry.getLevel(), source, template,
+                        text.length() > MAX_SAMPLE_LENGTH ? text.substring(0, MAX_SAMPLE_LENGTH) + "..." : text, now);
+                aggregates.put(fingerprint, aggregate);
+            }
+            aggregate.count++;
+            aggregate.stepCount++;
+            aggregate.lastMillis = now;
+
+            if (now - aggregate.windowStartMillis >= rateWindowMillis) {
+                if (aggregate.suppressed > 0) {
+                    log(aggregate.level, "[CDP][Console][{}] ... {} similar messages suppressed in the last {}ms",
+                            source, aggregate.suppressed, rateWindowMillis);
+                }
+                aggregate.windowStartMillis = now;
+                aggregate.loggedInWindow = 0;
+                aggregate.suppressed = 0;
+            }
+            if (aggregate.loggedInWindow < rateLimit) {
+                aggregate.loggedInWindow++;
+                log(aggregate.level, "[CDP][Console][{}] {}", source, text);
+            } else {
+                aggregate.suppressed++;
+            }
+        }
+    }
+
+    private void log(LogEntry.Level level, String format, Object... arguments) {
+        switch (level) {
+            case ERROR:
+                consoleLogger.error(format, arguments);
+                break;
+            case WARNING:
+                consoleLogger.warn(format, arguments);
+                break;
+            case INFO:
+                consoleLogger.info(format, arguments);
+                break;
+            default:
+                consoleLogger.debug(format, arguments);
+                break;
+        }
+    }
+
+    /**
+     * Adımda görülen parmak izlerinin özetini basar ve adım sayaçlarını sıfırlar
+     */
+    @Override
+    public synchronized void onStepEnd(String stepName, long durationMillis) {
+        List<Aggregate> seen = new ArrayList<>();
+        long total = 0;
+        for (Aggregate aggregate : aggregates.values()) {
+            if (aggregate.stepCount > 0) {
+                seen.add(aggregate);
+                total += aggregate.stepCount;
+            }
+        }
+        if (total > 0 || stepEvictedFingerprints > 0) {
+            seen.sort(Comparator.comparingLong((Aggregate a) -> a.stepCount).reversed());
+            consoleLogger.info("[CDP][Console] Step '{}': {} messages, {} distinct{}", stepName, total, seen.size(),
+                    stepEvictedFingerprints > 0 ? ", " + stepEvictedFingerprints + " stale fingerprints evicted" : "");
+            for (Aggregate aggregate : seen.subList(0, Math.min(10, seen.size()))) {
+                consoleLogger.info("[CDP][Console]   {}x {} [{}] {}", aggregate.stepCount,
+                        aggregate.level.toString().toUpperCase(Locale.ROOT), aggregate.source, aggregate.sample);
+            }
+        }
+        for (Aggregate aggregate : aggregates.values()) {
+            aggregate.stepCount = 0;
+        }
+        stepEvictedFingerprints = 0;
+    }
+
+    /**
+     * Tüm parmak izlerini toplam sayıya göre azalan sırada al
+     */
+    public synchronized List<Summary> getSummaries() {
+        List<Summary> summaries = new ArrayList<>();
+        aggregates.forEach((fingerprint, aggregate) -> summaries.add(new Summary(
+                Long.toHexString(fingerprint), aggregate.level.toString(), aggregate.source, aggregate.template,
+                aggregate.sample, aggregate.count, aggregate.firstMillis, aggregate.lastMillis)));
+        summaries.sort(Comparator.comparingLong(Summary::count).reversed());
+        return summaries;
+    }
+
+    /**
+     * Parmak izi limiti dolduğu için tablodan atılan parmak izi sayısı
+     */
+    public synchronized long getEvictedFingerprints() {
+        return evictedFingerprints;
+    }
+
+    /**
+     * Mesajdaki değişken kısımları (URL, uuid, hex id, sayı) yer tutucularla değiştirir
+     */
+    static String normalize(String text) {
+        String normalized = URL.matcher(text).replaceAll("<url>");
+        normalized = UUID.matcher(normalized).replaceAll("<id>");
+        normalized = HEX_ID.matcher(normalized).replaceAll("<id>");
+        normalized = NUMBER.matcher(normalized).replaceAll("<n>");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 64-bit FNV-1a hash
+     */
+    static long fingerprint(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class Aggregate {
+        private final LogEntry.Level level;
+        private final String source;
+        private final String template;
+        private final String sample;
+        private final long firstMillis;
+        private long lastMillis;
+        private long count;
+        private long stepCount;
+        private long windowStartMillis;
+        private int loggedInWindow;
+        private long suppressed;
+
+        private Aggregate(LogEntry.Level level, String source, String template, String sample, long firstMillis) {
+            this.level = level;
+            this.source = source;
+            this.template = template;
+            this.sample = sample;
+            this.firstMillis = firstMillis;
+            this.lastMillis = firstMillis;
+            this.windowStartMillis = firstMillis;
+        }
+    }
+
+    /**
+     * Bir parmak izinin toplam görünümü
+     */
+    public record Summary(String fingerprint, String level, String source, String template, String sample,
+                          long count, long firstMillis, long lastMillis) {
+    }
+}
@@ -0,0 +1,209 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.css.CSS;
+import org.openqa.selenium.devtools.v138.css.model.RuleUsage;
+import org.openqa.selenium.devtools.v138.dom.DOM;
+import org.openqa.selenium.devtools.v138.profiler.Profiler;
+import org.openqa.selenium.devtools.v138.profiler.model.CoverageRange;
+import org.openqa.selenium.devtools.v138.profiler.model.FunctionCoverage;
+import org.openqa.selenium.devtools.v138.profiler.model.ScriptCoverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sayfa nesnesi bazında JS ve CSS kapsam (coverage) toplayıcı
+ * JS için Profiler.startPreciseCoverage (blok seviyesinde), CSS için CSS.startRuleUsageTracking kullanılır
+ * Her kapsam bir sayfa nesnesinin kullanımıyla başlar ve sonraki sayfa nesnesine geçilince raporlanır:
+ * indirilen ama hiç çalışmayan JS ve hiç uygulanmayan CSS byte'ları
+ */
+public class CoverageCollector implements AutoCloseable {
+
+    private static final Logger performanceLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Performance");
+
+    private final DevTools devTools;
+    // styleSheetId -> (kaynak URL, uzunluk)
+    private final Map<String, StyleSheetInfo> styleSheets = new ConcurrentHashMap<>();
+    private final List<PageCoverage> results = Collections.synchronizedList(new ArrayList<>());
+    private String currentPage;
+
+    public CoverageCollector(DevTools devTools) {
+        this.devTools = devTools;
+
+        devTools.send(Profiler.enable());
+        devTools.send(Profiler.startPreciseCoverage(Optional.of(false), Optional.of(true), Optional.empty()));
+
+        devTools.addListener(CSS.styleSheetAdded(), header -> styleSheets.put(
+                header.getStyleSheetId().toString(),
+                new StyleSheetInfo(header.getSourceURL(), header.getLength().longValue())));
+        devTools.send(DOM.enable(Optional.empty()));
+        devTools.send(CSS.enable());
+    }
+
+    /**
+     * Önceki sayfa nesnesinin kapsamını raporlar ve yenisini başlatır
+     * @param pageName Sayfa nesnesi adı (HomePage, ProductsPage, ...)
+     */
+    public synchronized void beginPage(String pageName) {
+        if (pageName.equals(currentPage)) {
+            return;
+        }
+        endPage();
+        // Önceki çalıştırma sayaçlarını sıfırla
+        devTools.send(Profiler.takePreciseCoverage());
+        devTools.send(CSS.startRuleUsageTracking());
+        currentPage = pageName;
+    }
+
+    /**
+     * Aktif sayfa nesnesinin kapsamını toplar ve raporlar
+     */
+    public synchronized void endPage() {
+        if (currentPage == null) {
+            return;
+        }
+        String pageName = currentPage;
+        currentPage = null;
+        try {
+            List<ScriptCoverage> scripts = devTools.send(Profiler.takePreciseCoverage()).getResult();
+            List<RuleUsage> rules = devTools.send(CSS.stopRuleUsageTracking());
+
+            Map<String, long[]> jsByUrl = new HashMap<>();
+            for (ScriptCoverage script : scripts) {
+                if (script.getUrl() == null || script.getUrl().isEmpty()) {
+                    continue;
+                }
+                long[] usage = scriptUsage(script);
+                // Aynı script birden fazla context'te yüklenebilir
+                jsByUrl.merge(script.getUrl(), usage, (a, b) -> new long[] {Math.max(a[0], b[0]), Math.max(a[1], b[1])});
+            }
+
+            Map<String, long[]> cssBySheet = new HashMap<>();
+            for (RuleUsage rule : rules) {
+                long[] usage = cssBySheet.computeIfAbsent(rule.getStyleSheetId().toString(), id -> new long[2]);
+                if (rule.getUsed()) {
+                    usage[1] += rule.getEndOffset().longValue() - rule.getStartOffset().longValue();
+                }
+            }
+
+            long jsTotal = 0;
+            long jsUsed = 0;
+            for (long[] usage : jsByUrl.values()) {
+                jsTotal += usage[0];
+                jsUsed += usage[1];
+            }
+            long cssTotal = 0;
+            long cssUsed = 0;
+            for (Map.Entry<String, long[]> sheet : cssBySheet.entrySet()) {
+                StyleSheetInfo info = styleSheets.get(sheet.getKey());
+                cssTotal += info != null ? info.length() : sheet.getValue()[1];
+                cssUsed += sheet.getValue()[1];
+            }
+
+            PageCoverage coverage = new PageCoverage(pageName, jsTotal, jsTotal - jsUsed, cssTotal, cssTotal - cssUsed);
+            results.add(coverage);
+            performanceLogger.info("[CDP][Coverage] {}", coverage);
+            jsByUrl.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1] - e.getValue()[0]))
+                    .limit(3)
+                    .forEach(e -> performanceLogger.info("[CDP][Coverage]   {} unused {}KB of {}KB",
+                            e.getKey(), (e.getValue()[0] - e.getValue()[1]) / 1024, e.getValue()[0] / 1024));
+        } catch (Exception e) {
+            performanceLogger.warn("[CDP][Coverage] Could not collect coverage for {}: {}", pageName, e.getMessage());
+        }
+    }
+
+    /**
+     * Blok kapsamından script boyutu ve çalışan byte sayısı
+     * V8 aralıkları iç içedir; bir byte'ın sayacı onu içeren en içteki aralıktan gelir
+     * @return [toplam, kullanılan]
+     */
+    static long[] scriptUsage(ScriptCoverage script) {
+        List<CoverageRange> ranges = new ArrayList<>();
+        for (FunctionCoverage function : script.getFunctions()) {
+            ranges.addAll(function.getRanges());
+        }
+        ranges.sort(Comparator.comparingInt(CoverageRange::getStartOffset)
+                .thenComparing(Comparator.comparingInt(CoverageRange::getEndOffset).reversed()));
+
+        long total = 0;
+        long used = 0;
+        int position = 0;
+        List<CoverageRange> stack = new ArrayList<>();
+        for (CoverageRange range : ranges) {
+            total = Math.max(total, range.getEndOffset());
+            // Bu aralıktan önce biten dış aralıkları kapat
+            while (!stack.isEmpty() && stack.get(stack.size() - 1).getEndOffset() <= range.getStartOffset()) {
+                CoverageRange top = stack.remove(stack.size() - 1);
+                used += segment(position, top.getEndOffset(), top.getCount());
+                position = Math.max(position, top.getEndOffset());
+            }
+            if (!stack.isEmpty()) {
+                used += segment(position, range.getStartOffset(), stack.get(stack.size() - 1).getCount());
+            }
+            position = Math.max(position, range.getStartOffset());
+            stack.add(range);
+        }
+        while (!stack.isEmpty()) {
+            CoverageRange top = stack.remove(stack.size() - 1);
+            used += segment(position, top.getEndOffset(), top.getCount());
+            position = Math.max(position, top.getEndOffset());
+        }
+        return new long[] {total, used};
+    }
+
+    private static long segment(int from, int to, int count) {
+        return count > 0 && to > from ? to - from : 0;
+    }
+
+    /**
+     * Sayfa nesnesi bazında kapsam sonuçlarını al
+     */
+    public List<PageCoverage> getResults() {
+        synchronized (results) {
+            return List.copyOf(results);
+        }
+    }
+
+    /**
+     * Aktif kapsamı raporlar ve kapsam toplamayı durdurur
+     */
+    @Override
+    public synchronized void close() {
+        endPage();
+        try {
+            devTools.send(Profiler.stopPreciseCoverage());
+        } catch (Exception e) {
+            performanceLogger.debug("[CDP][Coverage] Could not stop precise coverage: {}", e.getMessage());
+        }
+    }
+
+    private record StyleSheetInfo(String url, long length) {
+    }
+
+    /**
+     * Bir sayfa nesnesinin kullanımı sırasında indirilen ve kullanılmayan JS/CSS byte'ları
+     */
+    public record PageCoverage(String pageName, long jsBytes, long unusedJsBytes, long cssBytes, long unusedCssBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: JS %dKB, unused %dKB (%.0f%%) | CSS %dKB, unused %dKB (%.0f%%)",
+                    pageName, jsBytes / 1024, unusedJsBytes / 1024, percent(unusedJsBytes, jsBytes),
+                    cssBytes / 1024, unusedCssBytes / 1024, percent(unusedCssBytes, cssBytes));
+        }
+
+        private static double percent(long part, long total) {
+            return total > 0 ? part * 100.0 / total : 0;
+        }
+    }
+}
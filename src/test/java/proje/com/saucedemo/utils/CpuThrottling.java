@@ -0,0 +1,21 @@
+package proje.com.saucedemo.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Test sınıfı için CPU yavaşlatma oranı (Emulation.setCPUThrottlingRate)
+ * 1 yavaşlatma yok, 4 orta seviye telefon, 6 düşük seviye telefon
+ * devtools.cpu.rate sistem property'si bu değeri ezer
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CpuThrottling {
+
+    /**
+     * Yavaşlatma oranı (>= 1)
+     */
+    double value();
+}
@@ -0,0 +1,353 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.Initiator;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.page.model.LifecycleEvent;
+import org.openqa.selenium.devtools.v138.runtime.model.CallFrame;
+import org.openqa.selenium.devtools.v138.runtime.model.StackTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Navigasyon bazında initiator grafiği ve kritik istek zinciri analizi
+ * Her istek requestWillBeSent'teki initiator (requestId, url veya script stack'i) üzerinden onu başlatan
+ * belge, script veya stylesheet isteğine bağlanır; redirect'ler aynı düğümde hop olarak sayılır.
+ * Load olayına kadar biten kritik istekler (belge, script, stylesheet, font veya yüksek öncelikli) içinde
+ * en geç biten isteğin kök belgeye kadar olan yolu en uzun kritik zincirdir. DOMContentLoaded'dan önce
+ * parser tarafından istenen script ve stylesheet'ler render-blocking kabul edilir
+ */
+public class CriticalChainAnalyzer implements CdpEventSink, StepListener {
+
+    private static final Logger networkLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Network");
+
+    private static final Set<String> CRITICAL_TYPES = Set.of("Document", "Script", "Stylesheet", "Font");
+    private static final Set<String> HIGH_PRIORITIES = Set.of("VeryHigh", "High");
+    private static final Set<String> BLOCKING_TYPES = Set.of("Script", "Stylesheet");
+
+    private final int maxRequests;
+    private final int maxReports;
+    private volatile String mainFrameId;
+    private String currentStep;
+
+    private Navigation current;
+    private final List<ChainReport> reports = new ArrayList<>();
+
+    public CriticalChainAnalyzer(int maxRequests, int maxReports) {
+        this.maxRequests = maxRequests;
+        this.maxReports = maxReports;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş analizci oluşturur
+     * devtools.chain.maxRequests (navigasyon başına), devtools.chain.maxReports
+     */
+    public static CriticalChainAnalyzer fromSystemProperties() {
+        return new CriticalChainAnalyzer(
+                Integer.getInteger("devtools.chain.maxRequests", 5000),
+                Integer.getInteger("devtools.chain.maxReports", 100));
+    }
+
+    /**
+     * Navigasyonların ve yaşam döngüsü olaylarının filtreleneceği ana frame
+     */
+    public void setMainFrameId(String mainFrameId) {
+        this.mainFrameId = mainFrameId;
+    }
+
+    @Override
+    public synchronized void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT:
+                onRequest(event.key(), event.payloadAs(RequestWillBeSent.class));
+                break;
+            case LOADING_FINISHED: {
+                Node node = current != null ? current.nodes.get(event.key()) : null;
+                if (node != null) {
+                    node.endMicros = NetworkLifecycleTracker.toMicros(event.payloadAs(LoadingFinished.class).getTimestamp());
+                }
+                break;
+            }
+            case LOADING_FAILED: {
+                Node node = current != null ? current.nodes.get(event.key()) : null;
+                if (node != null) {
+                    node.failed = true;
+                }
+                break;
+            }
+            case PAGE_LIFECYCLE: {
+                LifecycleEvent lifecycle = event.payloadAs(LifecycleEvent.class);
+                if (current == null || !isMainFrame(lifecycle.getFrameId().toString())
+                        || !current.loaderId.equals(lifecycle.getLoaderId().toString())) {
+                    break;
+                }
+                if ("DOMContentLoaded".equals(lifecycle.getName())) {
+                    current.domContentLoadedMicros = NetworkLifecycleTracker.toMicros(lifecycle.getTimestamp());
+                } else if ("load".equals(lifecycle.getName())) {
+                    current.loadMicros = NetworkLifecycleTracker.toMicros(lifecycle.getTimestamp());
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    private void onRequest(String requestId, RequestWillBeSent request) {
+        String type = request.getType().map(Object::toString).orElse("Other");
+        String url = request.getRequest().getUrl();
+        long sentMicros = NetworkLifecycleTracker.toMicros(request.getTimestamp());
+
+        boolean mainDocument = "Document".equals(type) && requestId.equals(request.getLoaderId().toString())
+                && request.getFrameId().map(frame -> isMainFrame(frame.toString())).orElse(false);
+        if (mainDocument && (current == null || !current.loaderId.equals(requestId))) {
+            finishNavigation();
+            current = new Navigation(requestId, url, currentStep);
+        }
+        if (current == null) {
+            return;
+        }
+
+        Node existing = current.nodes.get(requestId);
+        if (existing != null && request.getRedirectResponse().isPresent()) {
+            // Redirect hop'u: başlangıç zamanı korunur, zincir redirect süresini de içerir
+            existing.redirects++;
+            existing.url = url;
+            current.byUrl.put(url, existing);
+            return;
+        }
+        if (existing != null || current.nodes.size() >= maxRequests) {
+            return;
+        }
+
+        Initiator initiator = request.getInitiator();
+        Node node = new Node(url, type, sentMicros,
+                String.valueOf(request.getRequest().getInitialPriority()),
+                "parser".equals(String.valueOf(initiator.getType())));
+        node.parent = mainDocument ? null : parentOf(initiator);
+        current.nodes.put(requestId, node);
+        current.byUrl.put(url, node);
+    }
+
+    /**
+     * Initiator'ın requestId'si, URL'si veya script stack'indeki ilk URL ile eşleşen istek; bulunamazsa kök belge
+     */
+    private Node parentOf(Initiator initiator) {
+        if (initiator.getRequestId().isPresent()) {
+            Node parent = current.nodes.get(initiator.getRequestId().get().toString());
+            if (parent != null) {
+                return parent;
+            }
+        }
+        if (initiator.getUrl().isPresent()) {
+            Node parent = current.byUrl.get(initiator.getUrl().get());
+            if (parent != null) {
+                return parent;
+            }
+        }
+        Optional<StackTrace> stack = initiator.getStack();
+        while (stack.isPresent()) {
+            for (CallFrame frame : stack.get().getCallFrames()) {
+                Node parent = current.byUrl.get(frame.getUrl());
+                if (parent != null) {
+                    return parent;
+                }
+            }
+            stack = stack.get().getParent();
+        }
+        return current.nodes.get(current.loaderId);
+    }
+
+    private boolean isMainFrame(String frameId) {
+        return mainFrameId == null || mainFrameId.equals(frameId);
+    }
+
+    @Override
+    public synchronized void onStepStart(String stepName) {
+        currentStep = stepName;
+    }
+
+    /**
+     * Load olayı görülmüş navigasyonu adım sonunda raporlar
+     */
+    @Override
+    public synchronized void onStepEnd(String stepName, long durationMillis) {
+        if (current != null && current.loadMicros > 0) {
+            finishNavigation();
+        }
+        currentStep = null;
+    }
+
+    /**
+     * Açık navigasyonu raporlar (oturum kapanışında çağrılır)
+     */
+    public synchronized void flush() {
+        finishNavigation();
+    }
+
+    private void finishNavigation() {
+        if (current == null) {
+            return;
+        }
+        Navigation navigation = current;
+        current = null;
+        Node root = navigation.nodes.get(navigation.loaderId);
+        if (root == null) {
+            return;
+        }
+
+        // Load olayına kadar biten kritik istekler içinde en geç biten, en uzun zincirin ucudur
+        long loadMicros = navigation.loadMicros > 0 ? navigation.loadMicros : Long.MAX_VALUE;
+        Node tail = root;
+        for (Node node : navigation.nodes.values()) {
+            if (node.endMicros > 0 && !node.failed && node.endMicros <= loadMicros && isCritical(node)
+                    && (tail.endMicros == 0 || node.endMicros > tail.endMicros)) {
+                tail = node;
+            }
+        }
+
+        List<ChainLink> chain = new ArrayList<>();
+        List<ChainLink> renderBlocking = new ArrayList<>();
+        for (Node node = tail; node != null; node = node.parent) {
+            ChainLink link = link(node, root, navigation.domContentLoadedMicros);
+            chain.add(link);
+            if (link.renderBlocking()) {
+                renderBlocking.add(link);
+            }
+            if (chain.size() > navigation.nodes.size()) {
+                // Bozuk initiator verisine karşı döngü koruması
+                break;
+            }
+        }
+        Collections.reverse(chain);
+        Collections.reverse(renderBlocking);
+
+        ChainReport report = new ChainReport(
+                navigation.url,
+                navigation.stepName,
+                navigation.nodes.size(),
+                navigation.loadMicros > 0 ? (navigation.loadMicros - root.sentMicros) / 1000 : -1,
+                tail.endMicros > 0 ? (tail.endMicros - root.sentMicros) / 1000 : 0,
+                Collections.unmodifiableList(chain),
+                Collections.unmodifiableList(renderBlocking));
+        if (reports.size() >= maxReports) {
+            reports.remove(0);
+        }
+        reports.add(report);
+        log(report);
+    }
+
+    private static boolean isCritical(Node node) {
+        return CRITICAL_TYPES.contains(node.type) || HIGH_PRIORITIES.contains(node.priority);
+    }
+
+    private static ChainLink link(Node node, Node root, long domContentLoadedMicros) {
+        boolean renderBlocking = node != root && node.parserInitiated && BLOCKING_TYPES.contains(node.type)
+                && (domContentLoadedMicros == 0 || node.sentMicros <= domContentLoadedMicros);
+        return new ChainLink(
+                node.url,
+                node.type,
+                (node.sentMicros - root.sentMicros) / 1000,
+                node.endMicros > 0 ? (node.endMicros - node.sentMicros) / 1000 : -1,
+                node.redirects,
+                renderBlocking);
+    }
+
+    private static void log(ChainReport report) {
+        networkLogger.info("[CDP][Chain] {}", report);
+        for (ChainLink link : report.chain()) {
+            networkLogger.info("[CDP][Chain]   {}", link);
+        }
+        if (!report.renderBlocking().isEmpty()) {
+            networkLogger.info("[CDP][Chain] Render-blocking on chain: {}", report.renderBlocking());
+        }
+    }
+
+    /**
+     * Raporlanan navigasyonlar (en eskiler maxReports aşılınca atılır)
+     */
+    public synchronized List<ChainReport> getReports() {
+        return new ArrayList<>(reports);
+    }
+
+    private static final class Navigation {
+        private final String loaderId;
+        private final String url;
+        private final String stepName;
+        // requestId -> düğüm, gönderim sırasıyla
+        private final Map<String, Node> nodes = new LinkedHashMap<>();
+        // URL -> o URL'yi en son isteyen düğüm (initiator URL ve stack eşlemesi için)
+        private final Map<String, Node> byUrl = new HashMap<>();
+        private long domContentLoadedMicros;
+        private long loadMicros;
+
+        private Navigation(String loaderId, String url, String stepName) {
+            this.loaderId = loaderId;
+            this.url = url;
+            this.stepName = stepName;
+        }
+    }
+
+    private static final class Node {
+        private final String type;
+        private final long sentMicros;
+        private final String priority;
+        private final boolean parserInitiated;
+        private String url;
+        private Node parent;
+        private long endMicros;
+        private int redirects;
+        private boolean failed;
+
+        private Node(String url, String type, long sentMicros, String priority, boolean parserInitiated) {
+            this.url = url;
+            this.type = type;
+            this.sentMicros = sentMicros;
+            this.priority = priority;
+            this.parserInitiated = parserInitiated;
+        }
+    }
+
+    /**
+     * Bir navigasyonun kritik zincir raporu
+     * @param loadMillis Belge isteğinden load olayına kadar geçen süre (load görülmediyse -1)
+     * @param chainMillis Kök belgeden zincirin son isteğinin bitişine kadar geçen süre
+     * @param chain Kök belgeden başlayarak zincirdeki istekler
+     * @param renderBlocking Zincir üzerindeki render-blocking istekler
+     */
+    public record ChainReport(String url, String stepName, int requests, long loadMillis, long chainMillis,
+                              List<ChainLink> chain, List<ChainLink> renderBlocking) {
+
+        @Override
+        public String toString() {
+            return String.format("%s%s: %d requests, load at %dms, longest critical chain %dms (depth %d, %d render-blocking)",
+                    url, stepName != null ? " in '" + stepName + "'" : "", requests, loadMillis, chainMillis,
+                    chain.size(), renderBlocking.size());
+        }
+    }
+
+    /**
+     * Zincirdeki tek istek
+     * @param startMillis Kök belge isteğine göre başlangıç
+     * @param durationMillis Gönderimden bitişe kadar süre (bitmediyse -1)
+     */
+    public record ChainLink(String url, String type, long startMillis, long durationMillis, int redirects,
+                            boolean renderBlocking) {
+
+        @Override
+        public String toString() {
+            return String.format("+%dms %dms %s %s%s%s", startMillis, durationMillis, type, url,
+                    redirects > 0 ? " (" + redirects + " redirects)" : "",
+                    renderBlocking ? " [render-blocking]" : "");
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package proje.com.saucedemo.utils;
 
+import org.openqa.selenium.devtools.Command;
 import org.openqa.selenium.devtools.DevTools;
 import org.openqa.selenium.devtools.HasDevTools;
 import org.openqa.selenium.devtools.v138.network.Network;
 import org.openqa.selenium.devtools.v138.log.Log;
-import org.openqa.selenium.devtools.v138.fetch.Fetch;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPaused;
 import org.openqa.selenium.devtools.v138.performance.Performance;
 import org.openqa.selenium.devtools.v138.page.Page;
+import org.openqa.selenium.devtools.v138.emulation.Emulation;
+import org.openqa.selenium.devtools.v138.runtime.Runtime;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFailed;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.network.model.ResponseReceived;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * DevTools Helper - Chrome DevTools Protocol (CDP) entegrasyonu için yardımcı sınıf
@@ -41,10 +56,60 @@ public class DevToolsHelper {
     private WebDriver driver;
     private boolean isEnabled = false;
     
-    // Network monitoring için sayaçlar
-    private final AtomicInteger requestCount = new AtomicInteger(0);
-    private final AtomicInteger responseCount = new AtomicInteger(0);
-    private final ConcurrentHashMap<String, Long> requestTimings = new ConcurrentHashMap<>();
+    // Network monitoring için sayaçlar - tüketici thread'ler arasında çekişme olmasın diye şeritli
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder responseCount = new LongAdder();
+    private final NetworkCounters networkCounters = new NetworkCounters();
+    private final TransferAccounting transferAccounting = TransferAccounting.fromSystemProperties();
+    private final RequestTimingTable requestTimings = RequestTimingTable.fromSystemProperties();
+    private final NetworkLifecycleTracker lifecycleTracker = new NetworkLifecycleTracker(requestTimings);
+    private final Map<String, Double> stepStartHeapBytes = new ConcurrentHashMap<>();
+    private static final int REQUEST_URL_CAPACITY = Integer.getInteger("devtools.timings.capacity", 4096);
+    // requestId -> URL; loadingFailed olayında URL bulunmadığı için loglama işleyicileri buradan okur.
+    // loadingFinished'de silinir, başarısız/bitmeyen istekler zamanlama tablosu kapasitesi dolunca en eskiden atılır
+    private final Map<String, String> requestUrls = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > REQUEST_URL_CAPACITY;
+        }
+    });
+    
+    // CDP callback'lerinden tüketici thread'lere asenkron olay hattı
+    private CdpEventPipeline eventPipeline;
+    private boolean networkListenersRegistered = false;
+    private CaptureLevel captureLevel = CaptureLevel.fromSystemProperties();
+    private int captureBodyLimitKb = Integer.getInteger("devtools.network.bodyLimitKb", 64);
+    
+    // Test adımı sınırlarını dinleyenler (performance örnekleyici vb.)
+    private final List<StepListener> stepListeners = new CopyOnWriteArrayList<>();
+    private String currentStep;
+    private long currentStepStartMillis;
+    private PerformanceSampler performanceSampler;
+    private WebVitalsCollector webVitalsCollector;
+    private HarExporter harExporter;
+    private StepTimingReport stepTimingReport;
+    private TraceRecorder traceRecorder;
+    private MemoryLeakDetector memoryLeakDetector;
+    private CoverageCollector coverageCollector;
+    private ConsoleAggregator consoleAggregator;
+    private ChildTargetMonitor childTargetMonitor;
+    private WebSocketMonitor webSocketMonitor;
+    private CacheStatsCollector cacheStatsCollector;
+    private CriticalChainAnalyzer criticalChainAnalyzer;
+    private String mainFrameId;
+    private NetworkIdleWaiter networkIdleWaiter;
+    // Olay bazlı beklemelerin toplam süresi ve yerini aldıkları sabit bekleme süresi
+    private final AtomicLong settledWaitMillis = new AtomicLong();
+    private final AtomicLong replacedSleepMillis = new AtomicLong();
+    private volatile NetworkConditions networkConditions = NetworkConditions.NONE;
+    private volatile double cpuThrottlingRate = 1;
+    private volatile boolean cacheDisabled;
+    private final List<String> blockedUrls = new CopyOnWriteArrayList<>();
+    
+    // Fetch işleyici zinciri (önbellek, bloklama vb.)
+    private FetchInterceptor fetchInterceptor;
+    private NetworkCache networkCache;
+    private ResourceBlocker resourceBlocker;
     
     /**
      * DevTools Helper constructor
@@ -63,6 +128,7 @@ public class DevToolsHelper {
             if (driver instanceof HasDevTools) {
                 this.devTools = ((HasDevTools) driver).getDevTools();
                 this.devTools.createSession();
+                this.eventPipeline = CdpEventPipeline.fromSystemProperties();
                 this.isEnabled = true;
                 logger.info("DevTools session created successfully");
             } else {
@@ -93,87 +159,180 @@ public class DevToolsHelper {
         }
         
         try {
-            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            registerNetworkListeners();
+            
+            // Filtreleme ve loglama tüketici thread'de yapılır
+            eventPipeline.addSink(event -> handleSelectiveNetworkEvent(event, targetUrls));
+            
+            if (targetUrls != null && !targetUrls.isEmpty()) {
+                logger.info("Selective network monitoring enabled for: {}", targetUrls);
+            } else {
+                logger.info("Network monitoring enabled successfully (all requests)");
+            }
             
-            // Request gönderimini dinle
-            devTools.addListener(Network.requestWillBeSent(), request -> {
-                String requestId = request.getRequestId().toString();
+        } catch (Exception e) {
+            logger.error("Failed to enable network monitoring: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Network olaylarını dinleyip olay hattına bırakan CDP listener'larını bir kez kaydeder
+     * Callback'ler sadece ham olayı kuyruğa ekler, formatlama ve loglama yapmaz
+     */
+    private void registerNetworkListeners() {
+        if (networkListenersRegistered) {
+            return;
+        }
+        
+        devTools.send(captureLevel.networkEnable(captureBodyLimitKb));
+        
+        devTools.addListener(Network.requestWillBeSent(), request -> eventPipeline.publish(
+            CdpEvent.of(CdpEvent.Kind.REQUEST_WILL_BE_SENT, request.getRequestId().toString(), request)));
+        
+        devTools.addListener(Network.responseReceived(), response -> eventPipeline.publish(
+            CdpEvent.of(CdpEvent.Kind.RESPONSE_RECEIVED, response.getRequestId().toString(), response)));
+        
+        // dataReceived en yüksek hacimli olaydır, sadece ilk byte süresi gerektiğinde dinlenir
+        if (captureLevel.capturesDataReceived()) {
+            devTools.addListener(Network.dataReceived(), data -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.DATA_RECEIVED, data.getRequestId().toString(), data)));
+        }
+        
+        devTools.addListener(Network.loadingFinished(), finished -> eventPipeline.publish(
+            CdpEvent.of(CdpEvent.Kind.LOADING_FINISHED, finished.getRequestId().toString(), finished)));
+        
+        devTools.addListener(Network.loadingFailed(), failure -> eventPipeline.publish(
+            CdpEvent.of(CdpEvent.Kind.LOADING_FAILED, failure.getRequestId().toString(), failure)));
+        
+        // Yaşam döngüsü zamanlaması loglama işleyicilerinden önce güncellenir
+        eventPipeline.addSink(lifecycleTracker);
+        eventPipeline.addSink(networkCounters);
+        eventPipeline.addSink(transferAccounting);
+        addStepListener(transferAccounting);
+        eventPipeline.addSink(this::trackRequestUrl);
+        
+        networkListenersRegistered = true;
+        logger.info("Network capture level: {}{}", captureLevel,
+            captureLevel.capturesBodies() ? " (bodies up to " + captureBodyLimitKb + "KB)" : "");
+    }
+    
+    /**
+     * Network yakalama seviyesini ayarla - network listener'ları kaydedilmeden önce çağrılmalıdır
+     * @param level HEADERS, TIMING veya FULL
+     * @param bodyLimitKb FULL seviyesinde kaynak başına gövde ve POST verisi sınırı
+     */
+    public void setCaptureLevel(CaptureLevel level, int bodyLimitKb) {
+        if (networkListenersRegistered) {
+            logger.warn("Network capture level must be set before network monitoring is enabled, keeping {}", captureLevel);
+            return;
+        }
+        this.captureLevel = level;
+        this.captureBodyLimitKb = bodyLimitKb;
+    }
+    
+    /**
+     * Aktif network yakalama seviyesi
+     */
+    public CaptureLevel getCaptureLevel() {
+        return captureLevel;
+    }
+    
+    /**
+     * İsteklerin URL'lerini loadingFailed loglaması için tutar
+     */
+    private void trackRequestUrl(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT:
+                requestUrls.put(event.key(), event.payloadAs(RequestWillBeSent.class).getRequest().getUrl());
+                break;
+            case LOADING_FINISHED:
+                requestUrls.remove(event.key());
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Seçici network izleme için olay işleyici (tüketici thread'de çalışır)
+     */
+    private void handleSelectiveNetworkEvent(CdpEvent event, List<String> targetUrls) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT: {
+                RequestWillBeSent request = event.payloadAs(RequestWillBeSent.class);
+                String requestId = event.key();
                 String url = request.getRequest().getUrl();
                 String method = request.getRequest().getMethod();
                 
                 // Sadece API çağrıları ve form gönderimlerini logla
-                boolean shouldLog = isRelevantRequest(url, method, targetUrls);
+                int urlMask = UrlClassifier.DEFAULT.classify(url);
+                boolean shouldLog = isRelevantRequest(urlMask, url, method, targetUrls);
                 
-                requestTimings.put(requestId, System.currentTimeMillis());
-                requestCount.incrementAndGet();
+                requestCount.increment();
                 
                 if (shouldLog) {
                     networkLogger.info("[CDP][Network] {} {} -> {}", method, requestId, url);
                 }
-            });
-            
-            // Response'ları dinle
-            devTools.addListener(Network.responseReceived(), response -> {
-                String requestId = response.getRequestId().toString();
+                break;
+            }
+            case RESPONSE_RECEIVED: {
+                ResponseReceived response = event.payloadAs(ResponseReceived.class);
+                String requestId = event.key();
                 String url = response.getResponse().getUrl();
                 int status = response.getResponse().getStatus();
-                Long startTime = requestTimings.get(requestId);
+                long sentMicros = requestTimings.getSentMicros(requestId);
                 
                 // Sadece API çağrıları ve form gönderimlerini logla
-                boolean shouldLog = isRelevantRequest(url, "GET", targetUrls);
+                int urlMask = UrlClassifier.DEFAULT.classify(url);
+                boolean shouldLog = isRelevantRequest(urlMask, url, "GET", targetUrls);
                 
-                responseCount.incrementAndGet();
+                responseCount.increment();
                 
                 if (shouldLog) {
-                    if (startTime != null) {
-                        long duration = System.currentTimeMillis() - startTime;
+                    if (sentMicros != RequestTimingTable.MISSING) {
+                        long duration = (NetworkLifecycleTracker.toMicros(response.getTimestamp()) - sentMicros) / 1000;
                         networkLogger.info("[CDP][Network] Response {} {} -> {} ({}ms)", 
                                   status, requestId, url, duration);
-                        requestTimings.remove(requestId);
                     } else {
                         networkLogger.info("[CDP][Network] Response {} {} -> {}", 
                                   status, requestId, url);
                     }
                 }
-            });
-            
-            // Network hatalarını dinle
-            devTools.addListener(Network.loadingFailed(), failure -> {
-                String requestId = failure.getRequestId().toString();
-                String url = failure.getRequestId().toString();
+                break;
+            }
+            case LOADING_FAILED: {
+                LoadingFailed failure = event.payloadAs(LoadingFailed.class);
+                String requestId = event.key();
+                String url = requestUrls.getOrDefault(requestId, "");
                 String errorText = failure.getErrorText();
                 
                 // Sadece API çağrıları ve form gönderimlerini logla
-                boolean shouldLog = isRelevantRequest(url, "GET", targetUrls);
+                int urlMask = UrlClassifier.DEFAULT.classify(url);
+                boolean shouldLog = isRelevantRequest(urlMask, url, "GET", targetUrls);
                 
                 if (shouldLog) {
                     networkLogger.error("[CDP][Network] Failed {} -> {}: {}", requestId, url, errorText);
                 }
-            });
-            
-            if (targetUrls != null && !targetUrls.isEmpty()) {
-                logger.info("Selective network monitoring enabled for: {}", targetUrls);
-            } else {
-                logger.info("Network monitoring enabled successfully (all requests)");
+                break;
             }
-            
-        } catch (Exception e) {
-            logger.error("Failed to enable network monitoring: {}", e.getMessage(), e);
+            default:
+                break;
         }
     }
     
     /**
      * İsteğin loglanmaya değer olup olmadığını kontrol et
      * Sadece API çağrıları, form gönderimleri ve önemli sayfa yüklemelerini kabul et
+     * @param urlMask URL'nin {@link UrlClassifier} maskesi
      */
-    private boolean isRelevantRequest(String url, String method, List<String> targetUrls) {
+    private boolean isRelevantRequest(int urlMask, String url, String method, List<String> targetUrls) {
         // Statik kaynakları filtrele
-        if (isStaticResource(url)) {
+        if (UrlClassifier.isStatic(urlMask)) {
             return false;
         }
         
         // Sadece belirli HTTP metodlarını kabul et
-        if (!isRelevantMethod(method)) {
+        if (!isRelevantMethod(method, urlMask)) {
             return false;
         }
         
@@ -185,90 +344,23 @@ public class DevToolsHelper {
         return true;
     }
     
-    /**
-     * Statik kaynak olup olmadığını kontrol et
-     */
-    private boolean isStaticResource(String url) {
-        String lowerUrl = url.toLowerCase();
-        
-        // CSS dosyaları
-        if (lowerUrl.contains(".css") || lowerUrl.contains("css/")) {
-            return true;
-        }
-        
-        // JavaScript dosyaları
-        if (lowerUrl.contains(".js") || lowerUrl.contains("js/")) {
-            return true;
-        }
-        
-        // Resim dosyaları
-        if (lowerUrl.contains(".jpg") || lowerUrl.contains(".jpeg") || 
-            lowerUrl.contains(".png") || lowerUrl.contains(".gif") || 
-            lowerUrl.contains(".svg") || lowerUrl.contains(".ico") ||
-            lowerUrl.contains(".webp") || lowerUrl.contains("images/")) {
-            return true;
-        }
-        
-        // Font dosyaları
-        if (lowerUrl.contains(".woff") || lowerUrl.contains(".woff2") || 
-            lowerUrl.contains(".ttf") || lowerUrl.contains(".eot") ||
-            lowerUrl.contains("fonts/")) {
-            return true;
-        }
-        
-        // Diğer statik kaynaklar
-        if (lowerUrl.contains(".pdf") || lowerUrl.contains(".xml") || 
-            lowerUrl.contains(".txt") || lowerUrl.contains("static/")) {
-            return true;
-        }
-        
-        return false;
-    }
-    
     /**
      * İlgili HTTP metodları olup olmadığını kontrol et
      */
-    private boolean isRelevantMethod(String method) {
+    private boolean isRelevantMethod(String method, int urlMask) {
         if (method == null) return false;
         
-        String upperMethod = method.toUpperCase();
-        return upperMethod.equals("POST") || 
-               upperMethod.equals("PUT") || 
-               upperMethod.equals("DELETE") || 
-               upperMethod.equals("PATCH") ||
+        return method.equalsIgnoreCase("POST") || 
+               method.equalsIgnoreCase("PUT") || 
+               method.equalsIgnoreCase("DELETE") || 
+               method.equalsIgnoreCase("PATCH") ||
                // GET metodları sadece API endpoint'leri için
-               (upperMethod.equals("GET") && isApiEndpoint(method));
-    }
-    
-    /**
-     * API endpoint olup olmadığını kontrol et
-     */
-    private boolean isApiEndpoint(String url) {
-        if (url == null) return false;
-        
-        String lowerUrl = url.toLowerCase();
-        
-        // API endpoint pattern'leri
-        return lowerUrl.contains("/api/") ||
-               lowerUrl.contains("/rest/") ||
-               lowerUrl.contains("/ajax/") ||
-               lowerUrl.contains("/signup") ||
-               lowerUrl.contains("/login") ||
-               lowerUrl.contains("/logout") ||
-               lowerUrl.contains("/cart") ||
-               lowerUrl.contains("/checkout") ||
-               lowerUrl.contains("/payment") ||
-               lowerUrl.contains("/order") ||
-               lowerUrl.contains("/product") ||
-               lowerUrl.contains("/search") ||
-               lowerUrl.contains("/filter") ||
-               lowerUrl.contains("/add") ||
-               lowerUrl.contains("/remove") ||
-               lowerUrl.contains("/update");
+               (method.equalsIgnoreCase("GET") && UrlClassifier.isApi(urlMask));
     }
     
     /**
      * Console logging'i etkinleştir
+     * Tekrarlayan mesajlar {@link ConsoleAggregator} ile gruplanır ve adım sonunda özetlenir
      */
     public void enableConsoleLogging() {
         if (!isEnabled || devTools == null) {
@@ -277,27 +369,18 @@ public class DevToolsHelper {
         }
         
         try {
+            if (consoleAggregator != null) {
+                return;
+            }
             devTools.send(Log.enable());
             
-            devTools.addListener(Log.entryAdded(), entry -> {
-                String level = entry.getLevel().toString();
-                String text = entry.getText();
-                String source = entry.getSource().toString();
-                
-                switch (level) {
-                    case "ERROR":
-                        consoleLogger.error("[CDP][Console][{}] {}", source, text);
-                        break;
-                    case "WARNING":
-                        consoleLogger.warn("[CDP][Console][{}] {}", source, text);
-                        break;
-                    case "INFO":
-                        consoleLogger.info("[CDP][Console][{}] {}", source, text);
-                        break;
-                    default:
-                        consoleLogger.debug("[CDP][Console][{}] {}: {}", level, source, text);
-                }
-            });
+            devTools.addListener(Log.entryAdded(), entry -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.CONSOLE_ENTRY, null, entry)));
+            
+            // Mesajlar parmak izine göre gruplanır, ham loglama parmak izi başına sınırlanır
+            consoleAggregator = ConsoleAggregator.fromSystemProperties();
+            eventPipeline.addSink(consoleAggregator);
+            addStepListener(consoleAggregator);
             
             logger.info("Console logging enabled successfully");
             
@@ -316,8 +399,16 @@ public class DevToolsHelper {
         }
         
         try {
+            if (performanceSampler != null) {
+                return;
+            }
             devTools.send(Performance.enable(Optional.empty()));
             
+            // Metrikler periyodik olarak ve test adımı sınırlarında okunur
+            performanceSampler = PerformanceSampler.fromSystemProperties(devTools);
+            performanceSampler.start();
+            addStepListener(performanceSampler);
+            
             logger.info("Performance monitoring enabled successfully");
             
         } catch (Exception e) {
@@ -326,368 +417,1223 @@ public class DevToolsHelper {
     }
     
     /**
-     * URL'leri blokla
-     * @param urlsToBlock Bloklanacak URL pattern'leri
+     * Core Web Vitals izlemeyi etkinleştir
+     * Her yeni dokümana PerformanceObserver script'i enjekte edilir; LCP, CLS, INP/FID, FCP, TTFB ve
+     * long task değerleri Runtime.addBinding kanalıyla anında gönderilir (polling yapılmaz)
      */
-    public void blockUrls(List<String> urlsToBlock) {
+    public void enableWebVitalsMonitoring() {
         if (!isEnabled || devTools == null) {
-            logger.warn("DevTools not available for URL blocking");
+            logger.warn("DevTools not available for web vitals monitoring");
             return;
         }
         
         try {
-            devTools.send(Network.setBlockedURLs(urlsToBlock));
-            logger.info("Blocked URLs via CDP: {}", urlsToBlock);
+            if (webVitalsCollector != null) {
+                return;
+            }
+            String script = WebVitalsCollector.loadScript();
+            webVitalsCollector = new WebVitalsCollector();
+            eventPipeline.addSink(webVitalsCollector);
+            addStepListener(webVitalsCollector);
+            
+            devTools.send(Runtime.enable());
+            devTools.addListener(Runtime.bindingCalled(), call -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.BINDING_CALLED, null, call)));
+            
+            // Binding script'ten önce eklenmeli ki ilk değerler kaybolmasın
+            devTools.send(Runtime.addBinding(WebVitalsCollector.BINDING_NAME, Optional.empty(), Optional.empty()));
+            devTools.send(Page.addScriptToEvaluateOnNewDocument(script, Optional.empty(), Optional.empty(),
+                Optional.empty()));
+            
+            // Açık olan doküman için de script'i çalıştır
+            devTools.send(Runtime.evaluate(script, Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty()));
+            
+            logger.info("Web vitals monitoring enabled successfully");
             
         } catch (Exception e) {
-            logger.error("Failed to block URLs: {}", e.getMessage(), e);
+            logger.error("Failed to enable web vitals monitoring: {}", e.getMessage(), e);
         }
     }
     
     /**
-     * Fetch interception'i etkinleştir (request/response modifikasyonu için)
+     * Yakalanan network trafiğini HAR 1.2 olarak diske yazmayı etkinleştir
+     * İstekler tamamlandıkça akış halinde yazılır (bkz. devtools.har.* property'leri)
+     * @param name Dosya adı öneki (genelde test sınıfı adı)
      */
-    public void enableFetchInterception() {
+    public void enableHarExport(String name) {
         if (!isEnabled || devTools == null) {
-            logger.warn("DevTools not available for fetch interception");
+            logger.warn("DevTools not available for HAR export");
             return;
         }
         
         try {
-            devTools.send(Fetch.enable(Optional.empty(), Optional.empty()));
+            if (harExporter != null) {
+                return;
+            }
+            registerNetworkListeners();
             
-            devTools.addListener(Fetch.requestPaused(), event -> {
-                String requestId = event.getRequestId().toString();
-                String url = event.getRequest().getUrl();
-                
-                logger.info("[CDP][Fetch] Intercepted request {} -> {}", requestId, url);
-                
-                // Otomatik olarak devam ettir (modifikasyon yapmadan)
-                devTools.send(Fetch.continueRequest(
-                    event.getRequestId(), 
-                    Optional.empty(), 
-                    Optional.empty(), 
-                    Optional.empty(), 
-                    Optional.empty(), 
-                    Optional.empty()
-                ));
-            });
+            harExporter = HarExporter.fromSystemProperties(name);
+            eventPipeline.addSink(harExporter);
+            addStepListener(harExporter);
             
-            logger.info("Fetch interception enabled (auto-continue)");
+            logger.info("HAR export enabled for: {}", name);
             
         } catch (Exception e) {
-            logger.error("Failed to enable fetch interception: {}", e.getMessage(), e);
+            logger.error("Failed to enable HAR export: {}", e.getMessage(), e);
         }
     }
     
     /**
-     * Sayfa yükleme olaylarını dinle
+     * Network koşullarını emüle et (Network.emulateNetworkConditions)
+     * @param conditions Uygulanacak profil; NONE emülasyonu kaldırır
      */
-    public void enablePageMonitoring() {
+    public void applyNetworkConditions(NetworkConditions conditions) {
         if (!isEnabled || devTools == null) {
-            logger.warn("DevTools not available for page monitoring");
+            logger.warn("DevTools not available for network emulation");
             return;
         }
         
         try {
-            devTools.send(Page.enable(Optional.empty()));
-            
-            devTools.addListener(Page.loadEventFired(), event -> {
-                logger.info("[CDP][Page] Load event fired");
-            });
+            registerNetworkListeners();
             
-            devTools.addListener(Page.domContentEventFired(), event -> {
-                logger.info("[CDP][Page] DOM content loaded");
-            });
+            devTools.send(emulateNetworkConditions(conditions));
             
-            logger.info("Page monitoring enabled successfully");
+            networkConditions = conditions;
+            if (stepTimingReport != null) {
+                stepTimingReport.setNetworkProfile(conditions.name());
+            }
+            logger.info("Network conditions applied: {}", conditions);
             
         } catch (Exception e) {
-            logger.error("Failed to enable page monitoring: {}", e.getMessage(), e);
+            logger.error("Failed to apply network conditions {}: {}", conditions.name(), e.getMessage(), e);
         }
     }
     
     /**
-     * Tüm monitoring özelliklerini etkinleştir
+     * Uygulanan network profilini al
      */
-    public void enableAllMonitoring() {
-        enableNetworkMonitoring();
-        enableConsoleLogging();
-        enablePerformanceMonitoring();
-        enablePageMonitoring();
-        logger.info("All DevTools monitoring features enabled");
+    public NetworkConditions getNetworkConditions() {
+        return networkConditions;
     }
     
-    /**
-     * Network istatistiklerini al
-     */
-    public NetworkStats getNetworkStats() {
-        return new NetworkStats(
-            requestCount.get(),
-            responseCount.get(),
-            requestTimings.size()
-        );
+    private static Command<Void> emulateNetworkConditions(NetworkConditions conditions) {
+        return Network.emulateNetworkConditions(conditions.offline(), conditions.latencyMillis(),
+            conditions.downloadBytesPerSecond(), conditions.uploadBytesPerSecond(), Optional.empty(),
+            Optional.empty(), Optional.empty(), Optional.empty());
     }
     
     /**
-     * DevTools oturumunu kapat
+     * CPU yavaşlatma emülasyonu uygula (Emulation.setCPUThrottlingRate)
+     * Script ve task süreleri performance örnekleyicisi ile adım bazında ölçülür
+     * @param rate Yavaşlatma oranı (1 = yavaşlatma yok, 4 = 4 kat yavaş)
      */
-    public void close() {
-        if (devTools != null) {
-            try {
-                devTools.clearListeners();
-                devTools.close();
-                logger.info("DevTools session closed successfully");
-            } catch (Exception e) {
-                logger.warn("Error closing DevTools: {}", e.getMessage());
+    public void setCpuThrottlingRate(double rate) {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for CPU throttling");
+            return;
+        }
+        if (rate < 1) {
+            throw new IllegalArgumentException("CPU throttling rate must be >= 1: " + rate);
+        }
+        
+        try {
+            devTools.send(Emulation.setCPUThrottlingRate(rate));
+            enablePerformanceMonitoring();
+            
+            cpuThrottlingRate = rate;
+            if (stepTimingReport != null) {
+                stepTimingReport.setCpuThrottlingRate(rate);
             }
+            logger.info("CPU throttling applied: {}x", rate);
+            
+        } catch (Exception e) {
+            logger.error("Failed to apply CPU throttling {}x: {}", rate, e.getMessage(), e);
         }
     }
     
     /**
-     * DevTools etkin mi?
+     * Uygulanan CPU yavaşlatma oranını al
      */
-    public boolean isEnabled() {
-        return isEnabled;
+    public double getCpuThrottlingRate() {
+        return cpuThrottlingRate;
     }
     
     /**
-     * Test adımları için özel monitoring - sadece kullanıcı etkileşimlerini izle
+     * Adım bazında süre ve istek gecikmesi CSV raporunu etkinleştir (devtools.report.stepTimings)
      */
-    public void enableTestStepMonitoring() {
+    public void enableStepTimingReport() {
         if (!isEnabled || devTools == null) {
-            logger.warn("DevTools not available for test step monitoring");
+            logger.warn("DevTools not available for step timing report");
             return;
         }
         
         try {
-            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
-            
-            // Request gönderimini dinle
-            devTools.addListener(Network.requestWillBeSent(), request -> {
-                String requestId = request.getRequestId().toString();
-                String url = request.getRequest().getUrl();
-                String method = request.getRequest().getMethod();
-                
-                // Sadece test adımlarıyla ilgili istekleri logla
-                if (isTestStepRequest(url, method)) {
-                    requestTimings.put(requestId, System.currentTimeMillis());
-                    requestCount.incrementAndGet();
-                    
-                    // Test adımı türünü belirle
-                    String testStepType = getTestStepType(url, method);
-                    networkLogger.info("[TEST-STEP][Network] {} {} -> {} | {}", method, requestId, url, testStepType);
-                }
-            });
+            if (stepTimingReport != null) {
+                return;
+            }
+            registerNetworkListeners();
+            // Script/task süreleri için örnekleyici rapordan önce adım dinleyicisi olmalı
+            enablePerformanceMonitoring();
+            stepTimingReport = StepTimingReport.fromSystemProperties(lifecycleTracker);
+            stepTimingReport.setNetworkProfile(networkConditions.name());
+            stepTimingReport.setCpuThrottlingRate(cpuThrottlingRate);
+            stepTimingReport.setPerformanceSampler(performanceSampler);
+            addStepListener(stepTimingReport);
             
-            // Response'ları dinle
-            devTools.addListener(Network.responseReceived(), response -> {
-                String requestId = response.getRequestId().toString();
-                String url = response.getResponse().getUrl();
-                int status = response.getResponse().getStatus();
-                Long startTime = requestTimings.get(requestId);
-                
-                // Sadece test adımlarıyla ilgili response'ları logla
-                if (isTestStepRequest(url, "GET")) {
-                    responseCount.incrementAndGet();
-                    String testStepType = getTestStepType(url, "GET");
-                    
-                    if (startTime != null) {
-                        long duration = System.currentTimeMillis() - startTime;
-                        String statusIcon = status >= 200 && status < 300 ? "✅" : status >= 400 ? "❌" : "⚠️";
-                        networkLogger.info("[TEST-STEP][Network] Response {} {} {} -> {} ({}ms) | {}", 
-                                  statusIcon, status, requestId, url, duration, testStepType);
-                        requestTimings.remove(requestId);
-                    } else {
-                        String statusIcon = status >= 200 && status < 300 ? "✅" : status >= 400 ? "❌" : "⚠️";
-                        networkLogger.info("[TEST-STEP][Network] Response {} {} {} -> {} | {}", 
-                                  statusIcon, status, requestId, url, testStepType);
-                    }
-                }
-            });
+            logger.info("Step timing report enabled");
             
-            // Network hatalarını dinle
-            devTools.addListener(Network.loadingFailed(), failure -> {
-                String requestId = failure.getRequestId().toString();
-                String url = failure.getRequestId().toString();
-                String errorText = failure.getErrorText();
-                
-                // Sadece test adımlarıyla ilgili hataları logla
-                if (isTestStepRequest(url, "GET")) {
-                    networkLogger.error("[TEST-STEP][Network] Failed {} -> {}: {}", requestId, url, errorText);
-                }
-            });
+        } catch (Exception e) {
+            logger.error("Failed to enable step timing report: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Test adımları için Chrome trace kaydını etkinleştir (devtools.tracing.mode: OFF, AUTO, ALWAYS)
+     * AUTO modu sonraki koşular için geçmiş biriksin diye adım süreleri raporunu da etkinleştirir
+     * Trace'ler IO.read ile parça parça target/traces altına yazılır ve Perfetto ile açılabilir
+     */
+    public void enableTracing() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for tracing");
+            return;
+        }
+        
+        try {
+            if (traceRecorder != null) {
+                return;
+            }
+            // AUTO modu önceki süreleri aktif network/CPU profiline göre filtreler; profiller önce uygulanmalı
+            TraceRecorder recorder = TraceRecorder.fromSystemProperties(devTools, networkConditions.name(), cpuThrottlingRate);
+            if (recorder.getMode() == TraceRecorder.Mode.OFF) {
+                return;
+            }
+            traceRecorder = recorder;
+            addStepListener(traceRecorder);
+            if (recorder.getMode() == TraceRecorder.Mode.AUTO) {
+                // AUTO geçmişi adım süreleri raporundan okunur; rapor yazılmazsa hiçbir adım trace edilmez
+                enableStepTimingReport();
+            }
             
-            logger.info("Test step monitoring enabled - only user interactions and form submissions will be logged");
+            logger.info("Tracing enabled in {} mode", traceRecorder.getMode());
             
         } catch (Exception e) {
-            logger.error("Failed to enable test step monitoring: {}", e.getMessage(), e);
+            logger.error("Failed to enable tracing: {}", e.getMessage(), e);
         }
     }
     
     /**
-     * Test adımı isteği olup olmadığını kontrol et
+     * Adımlar arası JS heap ve DOM sayacı sızıntı tespitini etkinleştir (devtools.memory=true ile)
+     * Her adım sonunda heap ve DOM sayaçları örneklenir, sürekli artış uyarı olarak loglanır
      */
-    private boolean isTestStepRequest(String url, String method) {
-        if (url == null) return false;
-        
-        String lowerUrl = url.toLowerCase();
-        
-        // Statik kaynakları filtrele
-        if (isStaticResource(url)) {
-            return false;
+    public void enableMemoryLeakDetection() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for memory leak detection");
+            return;
         }
         
-        // Google Analytics/Ads çağrılarını filtrele
-        if (lowerUrl.contains("csi.gstatic.com") || 
-            lowerUrl.contains("google-analytics.com") ||
-            lowerUrl.contains("googletagmanager.com") ||
-            lowerUrl.contains("doubleclick.net") ||
-            lowerUrl.contains("googleads")) {
-            return false;
+        try {
+            if (memoryLeakDetector != null || !Boolean.getBoolean("devtools.memory")) {
+                return;
+            }
+            // Snapshot dosya adı aktif network/CPU profilini içerir; profiller önce uygulanmalı
+            memoryLeakDetector = MemoryLeakDetector.fromSystemProperties(devTools, networkConditions.name(), cpuThrottlingRate);
+            addStepListener(memoryLeakDetector);
+            
+            logger.info("Memory leak detection enabled");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable memory leak detection: {}", e.getMessage(), e);
         }
-        
-        // Tüm HTTP metodlarını kabul et (GET, POST, PUT, DELETE, PATCH)
-        if (method == null) {
-            return false;
+    }
+    
+    /**
+     * Sayfa nesnesi bazında JS/CSS kapsam toplamayı etkinleştir (devtools.coverage=true ile)
+     * Blok seviyesinde JS kapsamı sayfaları yavaşlattığı için varsayılan olarak kapalıdır
+     */
+    public void enableCoverageCollection() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for coverage collection");
+            return;
         }
         
-        // Ana test sitesi URL'lerini kabul et
-        if (lowerUrl.contains("automationexercise.com")) {
-            return true;
-        }
-        
-        // Test adımlarıyla ilgili endpoint'ler
-        return lowerUrl.contains("/signup") ||
-               lowerUrl.contains("/login") ||
-               lowerUrl.contains("/logout") ||
-               lowerUrl.contains("/cart") ||
-               lowerUrl.contains("/checkout") ||
-               lowerUrl.contains("/payment") ||
-               lowerUrl.contains("/order") ||
-               lowerUrl.contains("/add_to_cart") ||
-               lowerUrl.contains("/remove_from_cart") ||
-               lowerUrl.contains("/update_cart") ||
-               lowerUrl.contains("/subscribe") ||
-               lowerUrl.contains("/contact") ||
-               lowerUrl.contains("/newsletter") ||
-               lowerUrl.contains("/search") ||
-               lowerUrl.contains("/filter") ||
-               lowerUrl.contains("/product_detail") ||
-               lowerUrl.contains("/products") ||
-               lowerUrl.contains("/view_cart") ||
-               lowerUrl.contains("/view_product") ||
-               lowerUrl.contains("/category") ||
-               lowerUrl.contains("/brand") ||
-               // Form gönderimleri
-               lowerUrl.contains("form") ||
-               lowerUrl.contains("submit") ||
-               lowerUrl.contains("action") ||
-               // Sayfa navigasyonları
-               lowerUrl.contains("home") ||
-               lowerUrl.contains("about") ||
-               lowerUrl.contains("contact");
-    }
-    
-    /**
-     * Test adımı türünü belirle
-     */
-    private String getTestStepType(String url, String method) {
-        if (url == null) return "Unknown";
-        
-        String lowerUrl = url.toLowerCase();
-        String upperMethod = method != null ? method.toUpperCase() : "";
-        
-        // Sayfa navigasyonları
-        if (upperMethod.equals("GET")) {
-            if (lowerUrl.contains("/signup") || lowerUrl.contains("/login")) {
-                return "🔐 AUTH_PAGE";
-            } else if (lowerUrl.contains("/products")) {
-                return "🛍️ PRODUCTS_PAGE";
-            } else if (lowerUrl.contains("/cart") || lowerUrl.contains("view_cart")) {
-                return "🛒 CART_PAGE";
-            } else if (lowerUrl.contains("/checkout")) {
-                return "💳 CHECKOUT_PAGE";
-            } else if (lowerUrl.contains("/payment")) {
-                return "💸 PAYMENT_PAGE";
-            } else if (lowerUrl.contains("/product_detail")) {
-                return "📦 PRODUCT_DETAIL";
-            } else if (lowerUrl.contains("/home")) {
-                return "🏠 HOME_PAGE";
-            } else if (lowerUrl.contains("/contact")) {
-                return "📞 CONTACT_PAGE";
-            } else if (lowerUrl.contains("/about")) {
-                return "ℹ️ ABOUT_PAGE";
-            } else if (lowerUrl.contains("/category")) {
-                return "📂 CATEGORY_PAGE";
-            } else if (lowerUrl.contains("/brand")) {
-                return "🏷️ BRAND_PAGE";
-            }
-        }
-        
-        // Form gönderimleri
-        if (upperMethod.equals("POST")) {
-            if (lowerUrl.contains("/signup")) {
-                return "✅ SIGNUP_SUBMIT";
-            } else if (lowerUrl.contains("/login")) {
-                return "✅ LOGIN_SUBMIT";
-            } else if (lowerUrl.contains("/add_to_cart")) {
-                return "✅ ADD_TO_CART";
-            } else if (lowerUrl.contains("/remove_from_cart")) {
-                return "✅ REMOVE_FROM_CART";
-            } else if (lowerUrl.contains("/update_cart")) {
-                return "✅ UPDATE_CART";
-            } else if (lowerUrl.contains("/checkout")) {
-                return "✅ CHECKOUT_SUBMIT";
-            } else if (lowerUrl.contains("/payment")) {
-                return "✅ PAYMENT_SUBMIT";
-            } else if (lowerUrl.contains("/order")) {
-                return "✅ ORDER_SUBMIT";
-            } else if (lowerUrl.contains("/subscribe")) {
-                return "✅ SUBSCRIBE";
-            } else if (lowerUrl.contains("/contact")) {
-                return "✅ CONTACT_SUBMIT";
-            } else if (lowerUrl.contains("/newsletter")) {
-                return "✅ NEWSLETTER_SUBSCRIBE";
-            } else if (lowerUrl.contains("/search")) {
-                return "🔍 SEARCH_SUBMIT";
-            }
-        }
-        
-        // Diğer metodlar
-        if (upperMethod.equals("PUT")) {
-            return "🔄 UPDATE_ACTION";
-        } else if (upperMethod.equals("DELETE")) {
-            return "🗑️ DELETE_ACTION";
-        } else if (upperMethod.equals("PATCH")) {
-            return "🔧 PATCH_ACTION";
-        }
-        
-        return "�� PAGE_LOAD";
+        try {
+            if (coverageCollector != null || !Boolean.getBoolean("devtools.coverage")) {
+                return;
+            }
+            coverageCollector = new CoverageCollector(devTools);
+            
+            logger.info("JS/CSS coverage collection enabled");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable coverage collection: {}", e.getMessage(), e);
+        }
     }
     
     /**
-     * Network istatistikleri için inner class
+     * Yeni sayfa nesnesinin kapsamını başlatır, öncekini raporlar
+     * Sayfanın script'leri yüklenirken çalıştığı için sayfayı açan navigasyondan önce çağrılmalıdır
+     * @param pageName Sayfa nesnesi adı
      */
-    public static class NetworkStats {
-        private final int totalRequests;
-        private final int totalResponses;
-        private final int pendingRequests;
-        
-        public NetworkStats(int totalRequests, int totalResponses, int pendingRequests) {
-            this.totalRequests = totalRequests;
-            this.totalResponses = totalResponses;
-            this.pendingRequests = pendingRequests;
+    public void beginPageCoverage(String pageName) {
+        if (coverageCollector == null) {
+            return;
         }
-        
-        public int getTotalRequests() { return totalRequests; }
-        public int getTotalResponses() { return totalResponses; }
-        public int getPendingRequests() { return pendingRequests; }
-        
-        @Override
-        public String toString() {
-            return String.format("NetworkStats{requests=%d, responses=%d, pending=%d}", 
-                               totalRequests, totalResponses, pendingRequests);
+        try {
+            coverageCollector.beginPage(pageName);
+        } catch (Exception e) {
+            logger.warn("Could not start coverage for {}: {}", pageName, e.getMessage());
+        }
+    }
+    
+    /**
+     * Sayfa nesnesi bazında kapsam sonuçlarını al
+     */
+    public List<CoverageCollector.PageCoverage> getPageCoverage() {
+        return coverageCollector != null ? coverageCollector.getResults() : Collections.emptyList();
+    }
+    
+    /**
+     * Iframe, worker ve popup hedeflerine otomatik bağlanmayı etkinleştir
+     * Alt hedeflerin network ve console olayları aynı olay hattına akar ve hedef bazında sayılır
+     */
+    public void enableChildTargetMonitoring() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for child target monitoring");
+            return;
+        }
+        
+        try {
+            if (childTargetMonitor != null) {
+                return;
+            }
+            registerNetworkListeners();
+            childTargetMonitor = new ChildTargetMonitor(devTools, eventPipeline, captureLevel.networkEnable(captureBodyLimitKb),
+                this::childSessionCommands);
+            eventPipeline.addSink(childTargetMonitor);
+            childTargetMonitor.start();
+            
+            logger.info("Child target monitoring enabled (iframes, workers, popups)");
+            
+        } catch (IllegalStateException e) {
+            logger.warn("Child target monitoring disabled: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Failed to enable child target monitoring: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Ana oturumda etkin olan emülasyon, önbellek ve bloklama ayarlarını alt oturuma taşıyan komutlar
+     * Kaynak tipi bloklaması Fetch ile ana oturumda yanıtlandığı için alt oturumlara sadece URL desenleri gider
+     */
+    private List<Command<?>> childSessionCommands() {
+        List<Command<?>> commands = new ArrayList<>();
+        NetworkConditions conditions = networkConditions;
+        if (conditions != NetworkConditions.NONE) {
+            commands.add(emulateNetworkConditions(conditions));
+        }
+        if (cpuThrottlingRate > 1) {
+            commands.add(Emulation.setCPUThrottlingRate(cpuThrottlingRate));
+        }
+        if (cacheDisabled) {
+            commands.add(Network.setCacheDisabled(true));
+        }
+        List<String> urls = new ArrayList<>(blockedUrls);
+        if (resourceBlocker != null) {
+            urls.addAll(resourceBlocker.getProfile().urlPatterns());
+        }
+        if (!urls.isEmpty()) {
+            commands.add(Network.setBlockedURLs(urls));
+        }
+        return commands;
+    }
+    
+    /**
+     * Bağlanan alt hedeflerin istek ve console sayaçlarını al
+     */
+    public List<ChildTargetMonitor.TargetStats> getChildTargetStats() {
+        return childTargetMonitor != null ? childTargetMonitor.getTargetStats() : Collections.emptyList();
+    }
+    
+    /**
+     * WebSocket frame izlemeyi etkinleştir
+     * Soket bazında frame/s, payload boyut dağılımı ve -Ddevtools.ws.correlationKey ile gidiş-dönüş süresi ölçülür
+     */
+    public void enableWebSocketMonitoring() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for WebSocket monitoring");
+            return;
+        }
+        
+        try {
+            if (webSocketMonitor != null) {
+                return;
+            }
+            registerNetworkListeners();
+            webSocketMonitor = WebSocketMonitor.fromSystemProperties();
+            eventPipeline.addSink(webSocketMonitor);
+            
+            devTools.addListener(Network.webSocketCreated(), created -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.WS_CREATED, created.getRequestId().toString(), created)));
+            devTools.addListener(Network.webSocketFrameSent(), sent -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.WS_FRAME_SENT, sent.getRequestId().toString(), sent)));
+            devTools.addListener(Network.webSocketFrameReceived(), received -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.WS_FRAME_RECEIVED, received.getRequestId().toString(), received)));
+            devTools.addListener(Network.webSocketFrameError(), error -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.WS_FRAME_ERROR, error.getRequestId().toString(), error)));
+            devTools.addListener(Network.webSocketClosed(), closed -> eventPipeline.publish(
+                CdpEvent.of(CdpEvent.Kind.WS_CLOSED, closed.getRequestId().toString(), closed)));
+            
+            logger.info("WebSocket monitoring enabled");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable WebSocket monitoring: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Soket bazında WebSocket istatistiklerini al
+     */
+    public List<WebSocketMonitor.SocketStats> getWebSocketStats() {
+        return webSocketMonitor != null ? webSocketMonitor.getSocketStats() : Collections.emptyList();
+    }
+    
+    /**
+     * Önbellek etkinliği ölçümünü etkinleştir - adım bazında isabet oranı ve tasarruf edilen byte
+     */
+    public void enableCacheStats() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for cache statistics");
+            return;
+        }
+        
+        try {
+            if (cacheStatsCollector != null) {
+                return;
+            }
+            registerNetworkListeners();
+            cacheStatsCollector = CacheStatsCollector.fromSystemProperties();
+            eventPipeline.addSink(cacheStatsCollector);
+            addStepListener(cacheStatsCollector);
+            
+            logger.info("Cache statistics enabled");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable cache statistics: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Adım bazında önbellek istatistiklerini al
+     */
+    public List<CacheStatsCollector.StepCacheStats> getStepCacheStats() {
+        return cacheStatsCollector != null ? cacheStatsCollector.getStepStats() : Collections.emptyList();
+    }
+    
+    /**
+     * Sayfayı önce Network.setCacheDisabled(true) ile soğuk, sonra önbellekle sıcak yükleyip karşılaştırır
+     * Önbelleksiz yükleme önbelleğe yazmadığı için sıcak ölçümden önce sayfa bir kez ölçümsüz yüklenir
+     * @param url Karşılaştırılacak sayfa
+     */
+    public CacheStatsCollector.Comparison compareColdWarmCache(String url) throws InterruptedException {
+        if (!isEnabled || devTools == null) {
+            throw new IllegalStateException("DevTools not available for cache comparison");
+        }
+        enableCacheStats();
+        if (networkCache != null && networkCache.getMode() == NetworkCache.Mode.REPLAY) {
+            logger.warn("Network cache is in REPLAY mode, cold run responses may still be served from disk");
+        }
+        
+        try {
+            setCacheDisabled(true);
+            CacheStatsCollector.Run cold = measureLoad(url);
+            setCacheDisabled(false);
+            measureLoad(url);
+            CacheStatsCollector.Run warm = measureLoad(url);
+            
+            CacheStatsCollector.Comparison comparison = new CacheStatsCollector.Comparison(url, cold, warm);
+            networkLogger.info("[CDP][Cache] Cold vs warm {}", comparison);
+            return comparison;
+        } finally {
+            setCacheDisabled(false);
+        }
+    }
+    
+    private void setCacheDisabled(boolean disabled) {
+        devTools.send(Network.setCacheDisabled(disabled));
+        cacheDisabled = disabled;
+    }
+    
+    /**
+     * Sayfayı yükler; süre Navigation Timing'den (yoksa driver.get süresinden), trafik sayaç farkından alınır
+     */
+    private CacheStatsCollector.Run measureLoad(String url) throws InterruptedException {
+        NetworkCounters.Snapshot before = captureNetworkSnapshot();
+        long hitsBefore = cacheStatsCollector.getTotalStats().hits();
+        
+        long startMillis = System.currentTimeMillis();
+        driver.get(url);
+        long loadMillis = System.currentTimeMillis() - startMillis;
+        Object navigationLoad = ((JavascriptExecutor) driver).executeScript(
+            "var n = performance.getEntriesByType('navigation')[0];"
+                + " return n && n.loadEventEnd > 0 ? n.loadEventEnd - n.startTime : null;");
+        if (navigationLoad instanceof Number) {
+            loadMillis = Math.round(((Number) navigationLoad).doubleValue());
+        }
+        // Load sonrası gelen istekler de yüklemenin trafiğine sayılsın
+        if (networkIdleWaiter != null) {
+            waitForNetworkIdle(Long.getLong("devtools.idle.quietMs", 500L),
+                Integer.getInteger("devtools.idle.maxInflight", 2),
+                Long.getLong("devtools.idle.timeoutMs", 15_000L));
+        }
+        
+        NetworkCounters.Snapshot after = captureNetworkSnapshot();
+        return new CacheStatsCollector.Run(loadMillis, after.requests() - before.requests(),
+            after.encodedBytes() - before.encodedBytes(), cacheStatsCollector.getTotalStats().hits() - hitsBefore);
+    }
+    
+    /**
+     * Sayfa yaşam döngüsü olaylarını olay hattına bağlar (bir kez)
+     * @return Ana frame id'si
+     */
+    private String registerLifecycleListeners() {
+        if (mainFrameId != null) {
+            return mainFrameId;
+        }
+        devTools.send(Page.enable(Optional.empty()));
+        devTools.send(Page.setLifecycleEventsEnabled(true));
+        mainFrameId = devTools.send(Page.getFrameTree()).getFrame().getId().toString();
+        
+        devTools.addListener(Page.lifecycleEvent(), lifecycle -> eventPipeline.publish(
+            CdpEvent.of(CdpEvent.Kind.PAGE_LIFECYCLE, null, lifecycle)));
+        devTools.addListener(Page.loadEventFired(), load -> eventPipeline.publish(
+            CdpEvent.of(CdpEvent.Kind.PAGE_LOAD, null, load)));
+        return mainFrameId;
+    }
+    
+    /**
+     * Navigasyon bazında initiator grafiği ve kritik istek zinciri analizini etkinleştir
+     * Her navigasyonun en uzun kritik zinciri ve zincirdeki render-blocking kaynaklar loglanır
+     */
+    public void enableCriticalChainAnalysis() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for critical chain analysis");
+            return;
+        }
+        
+        try {
+            if (criticalChainAnalyzer != null) {
+                return;
+            }
+            registerNetworkListeners();
+            criticalChainAnalyzer = CriticalChainAnalyzer.fromSystemProperties();
+            eventPipeline.addSink(criticalChainAnalyzer);
+            addStepListener(criticalChainAnalyzer);
+            criticalChainAnalyzer.setMainFrameId(registerLifecycleListeners());
+            
+            logger.info("Critical request chain analysis enabled");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable critical chain analysis: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Navigasyon bazında kritik zincir raporlarını al
+     */
+    public List<CriticalChainAnalyzer.ChainReport> getCriticalChains() {
+        return criticalChainAnalyzer != null ? criticalChainAnalyzer.getReports() : Collections.emptyList();
+    }
+    
+    /**
+     * Network idle ve load olayı beklemelerini etkinleştir
+     * In-flight istekler olay hattından, belge durumu Page.lifecycleEvent ve Page.loadEventFired'dan izlenir
+     */
+    public void enableNetworkIdleWaits() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for network idle waits");
+            return;
+        }
+        
+        try {
+            if (networkIdleWaiter != null) {
+                return;
+            }
+            registerNetworkListeners();
+            networkIdleWaiter = NetworkIdleWaiter.fromSystemProperties(requestTimings);
+            eventPipeline.addSink(networkIdleWaiter);
+            networkIdleWaiter.setMainFrameId(registerLifecycleListeners());
+            
+            logger.info("Network idle waits enabled");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable network idle waits: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Network idle ve load waiter hazır mı?
+     */
+    public boolean isNetworkIdleWaitAvailable() {
+        return networkIdleWaiter != null;
+    }
+    
+    /**
+     * En fazla maxInflight istek açıkken quietMillis boyunca network sessiz kalana kadar bekler
+     * @return Beklenen süre (ms)
+     */
+    public long waitForNetworkIdle(long quietMillis, int maxInflight, long timeoutMillis) throws InterruptedException {
+        if (networkIdleWaiter == null) {
+            throw new IllegalStateException("Network idle waits are not enabled");
+        }
+        return networkIdleWaiter.waitForNetworkIdle(quietMillis, maxInflight, timeoutMillis);
+    }
+    
+    /**
+     * Ana frame'deki belgenin load olayını bekler
+     * @return Beklenen süre (ms)
+     */
+    public long waitForLoadEvent(long timeoutMillis) throws InterruptedException {
+        if (networkIdleWaiter == null) {
+            throw new IllegalStateException("Network idle waits are not enabled");
+        }
+        return networkIdleWaiter.waitForLoadEvent(timeoutMillis);
+    }
+    
+    /**
+     * Sabit bir Thread.sleep yerine sayfanın oturmasını bekler: önce network idle, sonra load olayı
+     * Ayarlar: devtools.idle.quietMs, devtools.idle.maxInflight, devtools.idle.timeoutMs
+     * @param replacedSleepMillis Yerine geçilen sabit bekleme (sadece raporlama için)
+     * @return Beklenen süre (ms)
+     */
+    public long waitForPageSettled(long replacedSleepMillis) throws InterruptedException {
+        long timeoutMillis = Long.getLong("devtools.idle.timeoutMs", 15_000L);
+        long elapsed = waitForNetworkIdle(
+            Long.getLong("devtools.idle.quietMs", 500L),
+            Integer.getInteger("devtools.idle.maxInflight", 2),
+            timeoutMillis);
+        elapsed += waitForLoadEvent(Math.max(0, timeoutMillis - elapsed));
+        
+        settledWaitMillis.addAndGet(elapsed);
+        this.replacedSleepMillis.addAndGet(replacedSleepMillis);
+        networkLogger.info("[CDP][Wait] Page settled in {}ms (fixed sleep was {}ms){}", elapsed, replacedSleepMillis,
+            currentStep != null ? " in '" + currentStep + "'" : "");
+        return elapsed;
+    }
+    
+    /**
+     * Adım bazında bellek örneklerini al
+     */
+    public List<MemoryLeakDetector.MemorySample> getMemorySamples() {
+        return memoryLeakDetector != null ? memoryLeakDetector.getSamples() : Collections.emptyList();
+    }
+    
+    /**
+     * Parmak izine göre gruplanmış console mesajlarını al
+     */
+    public List<ConsoleAggregator.Summary> getConsoleSummaries() {
+        return consoleAggregator != null ? consoleAggregator.getSummaries() : Collections.emptyList();
+    }
+    
+    /**
+     * Navigasyon bazında Web Vitals kayıtlarını al
+     */
+    public List<WebVitalsCollector.PageVitals> getPageVitals() {
+        return webVitalsCollector != null ? webVitalsCollector.getPageVitals() : Collections.emptyList();
+    }
+    
+    /**
+     * Test adımı dinleyicisi ekle
+     */
+    public void addStepListener(StepListener listener) {
+        stepListeners.add(listener);
+    }
+    
+    /**
+     * Test adımı başlangıcını bildir
+     * Önceki adım kapatılmadıysa önce o sonlandırılır
+     * @param stepName Adım adı (loglarda ve raporlarda görünür)
+     */
+    public void beginStep(String stepName) {
+        if (currentStep != null) {
+            endStep();
+        }
+        currentStep = stepName;
+        currentStepStartMillis = System.currentTimeMillis();
+        logger.info("[STEP] Begin '{}'", stepName);
+        for (StepListener listener : stepListeners) {
+            try {
+                listener.onStepStart(stepName);
+            } catch (Exception e) {
+                logger.warn("Step listener failed at start of '{}': {}", stepName, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Aktif test adımının bittiğini bildir
+     */
+    public void endStep() {
+        if (currentStep == null) {
+            return;
+        }
+        String stepName = currentStep;
+        long durationMillis = System.currentTimeMillis() - currentStepStartMillis;
+        currentStep = null;
+        // Adımın olayları işlenmeden özetler alınmasın
+        if (eventPipeline != null) {
+            eventPipeline.awaitDrained(Duration.ofSeconds(2));
+        }
+        for (StepListener listener : stepListeners) {
+            try {
+                listener.onStepEnd(stepName, durationMillis);
+            } catch (Exception e) {
+                logger.warn("Step listener failed at end of '{}': {}", stepName, e.getMessage());
+            }
+        }
+        logger.info("[STEP] End '{}' ({}ms)", stepName, durationMillis);
+    }
+    
+    /**
+     * Adım kapsamlı network istatistikleri açar; kapanışta sadece bu kapsamdaki fark loglanır
+     * <pre>
+     * try (StepScope step = devToolsHelper.step("checkout")) { ... }
+     * </pre>
+     */
+    public StepScope step(String name) {
+        // Bütçe doğrulamasında heap artışı bu değere göre hesaplanır
+        double usedHeap = usedHeapBytes();
+        if (!Double.isNaN(usedHeap)) {
+            stepStartHeapBytes.put(name, usedHeap);
+        }
+        return new StepScope(name, this::captureNetworkSnapshot,
+            delta -> networkLogger.info("[CDP][Network] {}", delta));
+    }
+    
+    /**
+     * Kapsam açıldığından bu yana adımın bütçe ölçümlerini toplar
+     * LCP, adıma ait navigasyonların en büyük değeridir; heap artışı kapsam açılışındaki kullanıma göredir
+     */
+    public StepPerformance measureStep(StepScope scope) {
+        StepScope.Delta delta = scope.delta();
+        double lcp = Double.NaN;
+        for (WebVitalsCollector.PageVitals vitals : getPageVitals()) {
+            if (scope.getName().equals(vitals.getStepName()) && !Double.isNaN(vitals.getLcp())) {
+                lcp = Double.isNaN(lcp) ? vitals.getLcp() : Math.max(lcp, vitals.getLcp());
+            }
+        }
+        Double startHeap = stepStartHeapBytes.get(scope.getName());
+        double heapGrowth = startHeap != null ? usedHeapBytes() - startHeap : Double.NaN;
+        return new StepPerformance(scope.getName(), delta.requests(), delta.encodedBytes(),
+                delta.latency(RequestPhase.COMPLETE).p95Millis(), lcp, heapGrowth);
+    }
+    
+    /**
+     * Kullanılan JS heap boyutu; ölçülemezse NaN
+     */
+    private double usedHeapBytes() {
+        if (!isEnabled || devTools == null) {
+            return Double.NaN;
+        }
+        try {
+            return devTools.send(Runtime.getHeapUsage()).getUsedSize().doubleValue();
+        } catch (Exception e) {
+            performanceLogger.debug("[CDP][Memory] Could not read heap usage: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+    
+    /**
+     * Olay hattı boşaltıldıktan sonra kümülatif network sayaçlarının snapshot'ı
+     */
+    private NetworkCounters.Snapshot captureNetworkSnapshot() {
+        if (eventPipeline != null) {
+            eventPipeline.awaitDrained(Duration.ofSeconds(2));
+        }
+        return networkCounters.snapshot(lifecycleTracker);
+    }
+    
+    /**
+     * Adım bazında Performance metrik farklarını al
+     */
+    public List<PerformanceSampler.StepMetrics> getStepPerformanceMetrics() {
+        return performanceSampler != null ? performanceSampler.getStepMetrics() : Collections.emptyList();
+    }
+    
+    /**
+     * URL'leri blokla
+     * @param urlsToBlock Bloklanacak URL pattern'leri
+     */
+    public void blockUrls(List<String> urlsToBlock) {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for URL blocking");
+            return;
+        }
+        
+        try {
+            devTools.send(Network.setBlockedURLs(urlsToBlock));
+            blockedUrls.clear();
+            blockedUrls.addAll(urlsToBlock);
+            logger.info("Blocked URLs via CDP: {}", urlsToBlock);
+            
+        } catch (Exception e) {
+            logger.error("Failed to block URLs: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * İsimlendirilmiş bloklama profilini uygula (bkz. blocking-profiles.properties)
+     * "functional" görsel, font, medya, reklam ve analytics isteklerini keser, "full" hiçbir şeyi bloklamaz
+     * Eşleşme Fetch istek desenleri ile hem CDP ResourceType hem URL üzerinden yapılır
+     * @param profileName Profil adı
+     */
+    public void applyBlockingProfile(String profileName) {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for blocking profiles");
+            return;
+        }
+        
+        try {
+            if (resourceBlocker != null) {
+                logger.warn("Blocking profile already applied: {}", resourceBlocker.getProfile().name());
+                return;
+            }
+            BlockingProfile profile = BlockingProfile.load(profileName);
+            resourceBlocker = ResourceBlocker.fromSystemProperties(profile);
+            
+            // Boyut kataloğu her profilde güncellenir, böylece "full" koşular tahminleri besler
+            registerNetworkListeners();
+            eventPipeline.addSink(resourceBlocker);
+            addStepListener(resourceBlocker);
+            
+            if (!profile.isEmpty()) {
+                fetchInterceptor().addHandler(resourceBlocker);
+            }
+            
+            logger.info("Blocking profile '{}' applied: types={}, urlPatterns={}", 
+                       profile.name(), profile.resourceTypes(), profile.urlPatterns().size());
+            
+        } catch (Exception e) {
+            logger.error("Failed to apply blocking profile {}: {}", profileName, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Adım bazında bloklama istatistiklerini al
+     */
+    public List<ResourceBlocker.StepBlockingStats> getBlockingStats() {
+        return resourceBlocker != null ? resourceBlocker.getStepStats() : Collections.emptyList();
+    }
+    
+    /**
+     * Fetch interception'i etkinleştir (request/response modifikasyonu için)
+     * İstekler loglanıp değiştirilmeden devam ettirilir
+     */
+    public void enableFetchInterception() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for fetch interception");
+            return;
+        }
+        
+        try {
+            fetchInterceptor().addHandler(new FetchHandler() {
+                @Override
+                public List<RequestPattern> patterns() {
+                    return List.of(new RequestPattern(Optional.of("*"), Optional.empty(), Optional.empty()));
+                }
+                
+                @Override
+                public boolean onRequestPaused(RequestPaused event, DevTools devTools) {
+                    logger.info("[CDP][Fetch] Intercepted request {} -> {}", event.getRequestId(), event.getRequest().getUrl());
+                    // Zincirdeki sonraki işleyiciye bırak, kimse yanıtlamazsa otomatik devam ettirilir
+                    return false;
+                }
+            });
+            
+            logger.info("Fetch interception enabled (auto-continue)");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable fetch interception: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Kayıt/tekrar oynatma network önbelleğini etkinleştir
+     * Mod devtools.cache.mode property'sinden okunur (OFF ise hiçbir şey yapılmaz)
+     * RECORD: response'lar diske yazılır, REPLAY: eşleşen istekler diskten yanıtlanır
+     */
+    public void enableNetworkCache() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for network cache");
+            return;
+        }
+        
+        try {
+            if (networkCache != null) {
+                return;
+            }
+            NetworkCache cache = NetworkCache.fromSystemProperties();
+            if (cache.getMode() == NetworkCache.Mode.OFF) {
+                return;
+            }
+            networkCache = cache;
+            fetchInterceptor().addHandler(networkCache);
+            
+            logger.info("Network cache enabled in {} mode", networkCache.getMode());
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable network cache: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Network önbelleği istatistiklerini al (etkin değilse null)
+     */
+    public NetworkCache.Stats getNetworkCacheStats() {
+        return networkCache != null ? networkCache.getStats() : null;
+    }
+    
+    /**
+     * Paylaşılan Fetch işleyici zinciri (ilk kullanımda oluşturulur)
+     */
+    private FetchInterceptor fetchInterceptor() {
+        if (fetchInterceptor == null) {
+            fetchInterceptor = new FetchInterceptor(devTools);
+        }
+        return fetchInterceptor;
+    }
+    
+    /**
+     * Sayfa yükleme olaylarını dinle
+     */
+    public void enablePageMonitoring() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for page monitoring");
+            return;
+        }
+        
+        try {
+            devTools.send(Page.enable(Optional.empty()));
+            
+            devTools.addListener(Page.loadEventFired(), event -> {
+                logger.info("[CDP][Page] Load event fired");
+            });
+            
+            devTools.addListener(Page.domContentEventFired(), event -> {
+                logger.info("[CDP][Page] DOM content loaded");
+            });
+            
+            logger.info("Page monitoring enabled successfully");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable page monitoring: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Tüm monitoring özelliklerini etkinleştir
+     */
+    public void enableAllMonitoring() {
+        enableNetworkMonitoring();
+        enableConsoleLogging();
+        enablePerformanceMonitoring();
+        enablePageMonitoring();
+        logger.info("All DevTools monitoring features enabled");
+    }
+    
+    /**
+     * Network istatistiklerini al
+     */
+    public NetworkStats getNetworkStats() {
+        return new NetworkStats(
+            requestCount.intValue(),
+            responseCount.intValue(),
+            requestTimings.size(),
+            lifecycleTracker.latencySummaries(),
+            networkCounters.encodedBytes(),
+            transferAccounting.getByHost(),
+            transferAccounting.getByType()
+        );
+    }
+    
+    /**
+     * İstek zamanlama tablosu istatistiklerini al (bekleyen istekler ve tahliyeler)
+     */
+    public RequestTimingTable.Stats getTimingTableStats() {
+        return requestTimings.getStats();
+    }
+    
+    /**
+     * Olay hattı metriklerini al (kuyruk derinliği, atılan olaylar, backpressure politikası)
+     */
+    public CdpEventPipeline.PipelineStats getPipelineStats() {
+        return eventPipeline != null ? eventPipeline.getStats() : null;
+    }
+    
+    /**
+     * DevTools oturumunu kapat
+     */
+    public void close() {
+        if (devTools != null) {
+            try {
+                endStep();
+                if (networkCache != null) {
+                    logger.info("Network cache at close: {}", networkCache.getStats());
+                }
+                if (coverageCollector != null) {
+                    coverageCollector.close();
+                }
+                if (performanceSampler != null) {
+                    performanceSampler.close();
+                }
+                devTools.clearListeners();
+                if (eventPipeline != null) {
+                    eventPipeline.close();
+                }
+                if (webVitalsCollector != null) {
+                    webVitalsCollector.close();
+                }
+                if (harExporter != null) {
+                    harExporter.close();
+                }
+                if (resourceBlocker != null) {
+                    resourceBlocker.close();
+                }
+                logger.info("Request timing table at close: {}", requestTimings.getStats());
+                if (networkListenersRegistered) {
+                    networkLogger.info("[CDP][Bytes] Session: {}KB transferred", networkCounters.encodedBytes() / 1024);
+                    networkLogger.info("[CDP][Bytes] Session by host: {}", transferAccounting.getByHost());
+                    networkLogger.info("[CDP][Bytes] Session by type: {}", transferAccounting.getByType());
+                    if (transferAccounting.getExpiredRequests() > 0) {
+                        networkLogger.info("[CDP][Bytes] Session: {} unfinished requests expired",
+                            transferAccounting.getExpiredRequests());
+                    }
+                }
+                if (childTargetMonitor != null) {
+                    logger.info("Child targets at close: {} (main page requests: {}, unattributed: {})",
+                        childTargetMonitor.getTargetStats(), childTargetMonitor.getMainRequests(),
+                        childTargetMonitor.getUnattributedRequests());
+                }
+                if (criticalChainAnalyzer != null) {
+                    criticalChainAnalyzer.flush();
+                }
+                if (cacheStatsCollector != null) {
+                    networkLogger.info("[CDP][Cache] {}", cacheStatsCollector.getTotalStats());
+                }
+                if (webSocketMonitor != null) {
+                    for (WebSocketMonitor.SocketStats socket : webSocketMonitor.getSocketStats()) {
+                        networkLogger.info("[CDP][WebSocket] Session: {}", socket);
+                    }
+                    if (webSocketMonitor.getEvictedClosedSockets() > 0) {
+                        networkLogger.info("[CDP][WebSocket] Session: {} older closed sockets not retained",
+                            webSocketMonitor.getEvictedClosedSockets());
+                    }
+                }
+                if (consoleAggregator != null) {
+                    List<ConsoleAggregator.Summary> summaries = consoleAggregator.getSummaries();
+                    consoleLogger.info("[CDP][Console] Session: {} distinct messages, {} stale fingerprints evicted",
+                        summaries.size(), consoleAggregator.getEvictedFingerprints());
+                    summaries.stream().limit(5).forEach(summary -> consoleLogger.info("[CDP][Console]   {}x {} [{}] {}",
+                        summary.count(), summary.level(), summary.source(), summary.sample()));
+                }
+                if (replacedSleepMillis.get() > 0) {
+                    logger.info("Event-driven waits took {}ms in total instead of {}ms of fixed sleeps",
+                        settledWaitMillis.get(), replacedSleepMillis.get());
+                }
+                devTools.close();
+                logger.info("DevTools session closed successfully");
+            } catch (Exception e) {
+                logger.warn("Error closing DevTools: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * DevTools etkin mi?
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+    
+    /**
+     * Test adımları için özel monitoring - sadece kullanıcı etkileşimlerini izle
+     */
+    public void enableTestStepMonitoring() {
+        if (!isEnabled || devTools == null) {
+            logger.warn("DevTools not available for test step monitoring");
+            return;
+        }
+        
+        try {
+            registerNetworkListeners();
+            
+            // Filtreleme ve loglama tüketici thread'de yapılır
+            eventPipeline.addSink(this::handleTestStepNetworkEvent);
+            
+            logger.info("Test step monitoring enabled - only user interactions and form submissions will be logged");
+            
+        } catch (Exception e) {
+            logger.error("Failed to enable test step monitoring: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Test adımı izleme için olay işleyici (tüketici thread'de çalışır)
+     */
+    private void handleTestStepNetworkEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT: {
+                RequestWillBeSent request = event.payloadAs(RequestWillBeSent.class);
+                String requestId = event.key();
+                String url = request.getRequest().getUrl();
+                String method = request.getRequest().getMethod();
+                
+                // Sadece test adımlarıyla ilgili istekleri logla
+                int urlMask = UrlClassifier.DEFAULT.classify(url);
+                if (UrlClassifier.isTestStep(urlMask, method)) {
+                    requestCount.increment();
+                    
+                    // Test adımı türünü belirle
+                    TestStepType testStepType = UrlClassifier.stepType(urlMask, method);
+                    networkLogger.info("[TEST-STEP][Network] {} {} -> {} | {}", method, requestId, url, testStepType);
+                }
+                break;
+            }
+            case RESPONSE_RECEIVED: {
+                ResponseReceived response = event.payloadAs(ResponseReceived.class);
+                String requestId = event.key();
+                String url = response.getResponse().getUrl();
+                int status = response.getResponse().getStatus();
+                long sentMicros = requestTimings.getSentMicros(requestId);
+                
+                // Sadece test adımlarıyla ilgili response'ları logla
+                int urlMask = UrlClassifier.DEFAULT.classify(url);
+                if (UrlClassifier.isTestStep(urlMask, "GET")) {
+                    responseCount.increment();
+                    TestStepType testStepType = UrlClassifier.stepType(urlMask, "GET");
+                    
+                    if (sentMicros != RequestTimingTable.MISSING) {
+                        long duration = (NetworkLifecycleTracker.toMicros(response.getTimestamp()) - sentMicros) / 1000;
+                        String statusIcon = status >= 200 && status < 300 ? "✅" : status >= 400 ? "❌" : "⚠️";
+                        networkLogger.info("[TEST-STEP][Network] Response {} {} {} -> {} ({}ms) | {}", 
+                                  statusIcon, status, requestId, url, duration, testStepType);
+                    } else {
+                        String statusIcon = status >= 200 && status < 300 ? "✅" : status >= 400 ? "❌" : "⚠️";
+                        networkLogger.info("[TEST-STEP][Network] Response {} {} {} -> {} | {}", 
+                                  statusIcon, status, requestId, url, testStepType);
+                    }
+                }
+                break;
+            }
+            case LOADING_FAILED: {
+                LoadingFailed failure = event.payloadAs(LoadingFailed.class);
+                String requestId = event.key();
+                String url = requestUrls.getOrDefault(requestId, "");
+                String errorText = failure.getErrorText();
+                
+                // Sadece test adımlarıyla ilgili hataları logla
+                if (UrlClassifier.isTestStep(UrlClassifier.DEFAULT.classify(url), "GET")) {
+                    networkLogger.error("[TEST-STEP][Network] Failed {} -> {}: {}", requestId, url, errorText);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Network istatistikleri için inner class
+     * Sayaçlara ek olarak test adımı kategorisi ve yaşam döngüsü aşaması bazında gecikme dağılımları
+     */
+    public static class NetworkStats {
+        private final int totalRequests;
+        private final int totalResponses;
+        private final int pendingRequests;
+        private final Map<TestStepType, Map<RequestPhase, LatencySummary>> latency;
+        private final long encodedBytes;
+        private final List<TransferAccounting.ByteTotals> bytesByHost;
+        private final List<TransferAccounting.ByteTotals> bytesByType;
+        
+        public NetworkStats(int totalRequests, int totalResponses, int pendingRequests) {
+            this(totalRequests, totalResponses, pendingRequests, Collections.emptyMap());
+        }
+        
+        public NetworkStats(int totalRequests, int totalResponses, int pendingRequests,
+                            Map<TestStepType, Map<RequestPhase, LatencySummary>> latency) {
+            this(totalRequests, totalResponses, pendingRequests, latency, 0, Collections.emptyList(), Collections.emptyList());
+        }
+        
+        /**
+         * @param encodedBytes Toplam aktarılan (encoded) byte (NetworkCounters)
+         * @param bytesByHost Host bazında aktarım toplamları (encoded byte'a göre azalan)
+         * @param bytesByType CDP ResourceType bazında aktarım toplamları (encoded byte'a göre azalan)
+         */
+        public NetworkStats(int totalRequests, int totalResponses, int pendingRequests,
+                            Map<TestStepType, Map<RequestPhase, LatencySummary>> latency, long encodedBytes,
+                            List<TransferAccounting.ByteTotals> bytesByHost,
+                            List<TransferAccounting.ByteTotals> bytesByType) {
+            this.totalRequests = totalRequests;
+            this.totalResponses = totalResponses;
+            this.pendingRequests = pendingRequests;
+            this.latency = latency;
+            this.encodedBytes = encodedBytes;
+            this.bytesByHost = bytesByHost;
+            this.bytesByType = bytesByType;
+        }
+        
+        public int getTotalRequests() { return totalRequests; }
+        public int getTotalResponses() { return totalResponses; }
+        public int getPendingRequests() { return pendingRequests; }
+        public Map<TestStepType, Map<RequestPhase, LatencySummary>> getLatency() { return latency; }
+        public List<TransferAccounting.ByteTotals> getBytesByHost() { return bytesByHost; }
+        public List<TransferAccounting.ByteTotals> getBytesByType() { return bytesByType; }
+        
+        /**
+         * Toplam aktarılan (encoded) byte
+         */
+        public long getEncodedBytes() {
+            return encodedBytes;
+        }
+        
+        /**
+         * Toplam açılmış gövde byte'ı (dataReceived dinlenmiyorsa 0)
+         */
+        public long getDecodedBytes() {
+            long total = 0;
+            for (TransferAccounting.ByteTotals totals : bytesByType) {
+                total += totals.decodedBytes();
+            }
+            return total;
+        }
+        
+        /**
+         * Kategori ve aşama için gecikme özeti (veri yoksa boş özet)
+         */
+        public LatencySummary getLatency(TestStepType type, RequestPhase phase) {
+            Map<RequestPhase, LatencySummary> byPhase = latency.get(type);
+            if (byPhase == null) {
+                return LatencySummary.EMPTY;
+            }
+            return byPhase.getOrDefault(phase, LatencySummary.EMPTY);
+        }
+        
+        @Override
+        public String toString() {
+            StringBuilder latencyText = new StringBuilder();
+            latency.forEach((type, byPhase) -> {
+                LatencySummary complete = byPhase.get(RequestPhase.COMPLETE);
+                if (complete != null) {
+                    latencyText.append(", ").append(type.name()).append("[").append(complete).append("]");
+                }
+            });
+            String bytesText = bytesByHost.isEmpty() ? "" : String.format(", transferred=%dKB, topHosts=%s, topTypes=%s",
+                getEncodedBytes() / 1024, bytesByHost.subList(0, Math.min(3, bytesByHost.size())),
+                bytesByType.subList(0, Math.min(3, bytesByType.size())));
+            return String.format("NetworkStats{requests=%d, responses=%d, pending=%d%s%s}", 
+                               totalRequests, totalResponses, pendingRequests, bytesText, latencyText);
         }
     }
 }
@@ -0,0 +1,150 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v138.runtime.Runtime;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MutationObserver tabanlı DOM bekleme motoru
+ * Her bekleme tek bir Runtime.evaluate (awaitPromise) çağrısıdır: koşul tarayıcıda her DOM değişikliğinde
+ * kontrol edilir, WebDriverWait'in 500ms yoklama gecikmesi ve tekrarlanan WebDriver çağrıları ortadan kalkar
+ * DevTools yoksa veya CDP çağrısı başarısız olursa WebDriverWait'e düşülür
+ */
+public class DomMutationWaiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomMutationWaiter.class);
+
+    private static final String SCRIPT_RESOURCE = "scripts/dom-wait.js";
+    private static final String SCRIPT = loadScript();
+
+    /**
+     * Bekleme koşulu
+     */
+    public enum Condition {
+        APPEAR,
+        DISAPPEAR,
+        TEXT_CHANGE
+    }
+
+    private final WebDriver driver;
+    private final DevTools devTools;
+    private final Json json = new Json();
+
+    public DomMutationWaiter(WebDriver driver) {
+        this.driver = driver;
+        this.devTools = driver instanceof HasDevTools ? ((HasDevTools) driver).getDevTools() : null;
+    }
+
+    /**
+     * Seçiciye uyan eleman görünür olana kadar bekler
+     * @return Koşul sağlandıysa true
+     */
+    public boolean waitForAppear(String cssSelector, Duration timeout) {
+        return await(cssSelector, Condition.APPEAR, null, timeout);
+    }
+
+    /**
+     * Seçiciye uyan eleman kaybolana (DOM'dan çıkana veya gizlenene) kadar bekler
+     * @return Koşul sağlandıysa true
+     */
+    public boolean waitForDisappear(String cssSelector, Duration timeout) {
+        return await(cssSelector, Condition.DISAPPEAR, null, timeout);
+    }
+
+    /**
+     * Seçiciye uyan elemanın metni previousText'ten farklı olana kadar bekler
+     * @return Koşul sağlandıysa true
+     */
+    public boolean waitForTextChange(String cssSelector, String previousText, Duration timeout) {
+        return await(cssSelector, Condition.TEXT_CHANGE, previousText, timeout);
+    }
+
+    private boolean await(String cssSelector, Condition condition, String previousText, Duration timeout) {
+        if (devTools != null) {
+            try {
+                return evaluate(cssSelector, condition, previousText, timeout);
+            } catch (Exception e) {
+                // Navigasyon sırasında execution context yok olabilir, oturum hiç açılmamış olabilir
+                logger.debug("[CDP][Wait] Mutation wait for {} {} failed, falling back to WebDriverWait: {}",
+                        condition, cssSelector, e.getMessage());
+            }
+        }
+        return poll(cssSelector, condition, previousText, timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean evaluate(String cssSelector, Condition condition, String previousText, Duration timeout) {
+        String expression = SCRIPT + "(" + json.toJson(cssSelector) + ", " + json.toJson(condition.name()) + ", "
+                + json.toJson(previousText) + ", " + timeout.toMillis() + ")";
+
+        Runtime.EvaluateResponse response = devTools.send(Runtime.evaluate(expression, Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(true), Optional.empty(),
+                Optional.empty(), Optional.of(true), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+
+        if (response.getExceptionDetails().isPresent()) {
+            throw new IllegalStateException(response.getExceptionDetails().get().getText());
+        }
+        Map<String, Object> value = (Map<String, Object>) response.getResult().getValue().orElseThrow();
+        boolean satisfied = Boolean.TRUE.equals(value.get("satisfied"));
+        long elapsedMillis = ((Number) value.get("elapsedMs")).longValue();
+        if (satisfied) {
+            logger.debug("[CDP][Wait] {} {} after {}ms", condition, cssSelector, elapsedMillis);
+        } else {
+            logger.warn("[CDP][Wait] {} {} not satisfied within {}ms", condition, cssSelector, elapsedMillis);
+        }
+        return satisfied;
+    }
+
+    private boolean poll(String cssSelector, Condition condition, String previousText, Duration timeout) {
+        WebDriverWait wait = new WebDriverWait(driver, timeout);
+        By locator = By.cssSelector(cssSelector);
+        try {
+            switch (condition) {
+                case APPEAR:
+                    wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                    break;
+                case DISAPPEAR:
+                    wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+                    break;
+                case TEXT_CHANGE:
+                    wait.until(d -> {
+                        List<WebElement> elements = d.findElements(locator);
+                        return !elements.isEmpty() && !elements.get(0).getText().trim().equals(previousText);
+                    });
+                    break;
+            }
+            return true;
+        } catch (Exception e) {
+            logger.warn("[Wait] {} {} not satisfied within {}ms", condition, cssSelector, timeout.toMillis());
+            return false;
+        }
+    }
+
+    private static String loadScript() {
+        try (InputStream input = DomMutationWaiter.class.getClassLoader().getResourceAsStream(SCRIPT_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("DOM wait script not found on classpath: " + SCRIPT_RESOURCE);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load DOM wait script", e);
+        }
+    }
+}
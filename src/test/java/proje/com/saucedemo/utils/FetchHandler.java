@@ -0,0 +1,26 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPaused;
+
+import java.util.List;
+
+/**
+ * Fetch.requestPaused zincirindeki işleyici
+ * {@link FetchInterceptor} işleyicileri kayıt sırasıyla çağırır; isteği yanıtlayan (fulfill/fail/continue)
+ * ilk işleyiciden sonra zincir durur, hiçbiri yanıtlamazsa istek olduğu gibi devam ettirilir
+ */
+public interface FetchHandler {
+
+    /**
+     * Bu işleyicinin durdurulmasını istediği istek desenleri (URL, ResourceType, aşama)
+     */
+    List<RequestPattern> patterns();
+
+    /**
+     * Duraklatılan isteği işler
+     * @return İstek bu işleyici tarafından yanıtlandıysa true
+     */
+    boolean onRequestPaused(RequestPaused event, DevTools devTools);
+}
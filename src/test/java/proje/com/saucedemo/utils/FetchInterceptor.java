@@ -0,0 +1,96 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.fetch.Fetch;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPaused;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fetch domain'i için tek listener üzerinden çalışan işleyici zinciri
+ * Fetch.enable sadece işleyicilerin istediği desenlerle çağrılır, böylece ilgilenilmeyen istekler hiç duraklatılmaz
+ */
+public class FetchInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(FetchInterceptor.class);
+
+    private final DevTools devTools;
+    private final List<FetchHandler> handlers = new CopyOnWriteArrayList<>();
+    private boolean listenerRegistered = false;
+
+    public FetchInterceptor(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * İşleyici ekler ve Fetch desenlerini günceller
+     */
+    public synchronized void addHandler(FetchHandler handler) {
+        handlers.add(handler);
+        if (!listenerRegistered) {
+            devTools.addListener(Fetch.requestPaused(), this::dispatch);
+            listenerRegistered = true;
+        }
+        List<RequestPattern> patterns = new ArrayList<>();
+        for (FetchHandler registered : handlers) {
+            patterns.addAll(registered.patterns());
+        }
+        if (patterns.isEmpty()) {
+            return;
+        }
+        // Fetch.enable tekrar çağrıldığında önceki desenlerin yerini alır
+        devTools.send(Fetch.enable(Optional.of(patterns), Optional.empty()));
+    }
+
+    private void dispatch(RequestPaused event) {
+        try {
+            for (FetchHandler handler : handlers) {
+                if (handler.onRequestPaused(event, devTools)) {
+                    return;
+                }
+            }
+            continueRequest(event);
+        } catch (Exception e) {
+            logger.warn("[CDP][Fetch] Handler failed for {}: {}", event.getRequest().getUrl(), e.getMessage());
+            try {
+                continueRequest(event);
+            } catch (Exception ignored) {
+                // İstek zaten yanıtlanmış olabilir
+            }
+        }
+    }
+
+    /**
+     * Duraklatılan isteği değiştirmeden devam ettirir (request veya response aşamasında)
+     */
+    public static void continueRequest(DevTools devTools, RequestPaused event) {
+        devTools.send(Fetch.continueRequest(
+            event.getRequestId(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty()
+        ));
+    }
+
+    private void continueRequest(RequestPaused event) {
+        continueRequest(devTools, event);
+    }
+
+    /**
+     * Fetch interception'ı kapatır
+     */
+    public synchronized void disable() {
+        if (listenerRegistered) {
+            devTools.send(Fetch.disable());
+        }
+        handlers.clear();
+    }
+}
@@ -0,0 +1,387 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.LoadingFailed;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v138.network.model.Request;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.network.model.ResourceTiming;
+import org.openqa.selenium.devtools.v138.network.model.Response;
+import org.openqa.selenium.devtools.v138.network.model.ResponseReceived;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HAR 1.2 dışa aktarıcı - requestWillBeSent, responseReceived ve loadingFinished/loadingFailed
+ * olaylarını ilişkilendirip her isteği tamamlandığı anda diske yazar
+ * Sadece tamamlanmamış istekler bellekte tutulur (üst sınırlı), bu yüzden bellek kullanımı oturum süresinden bağımsızdır
+ * Çıktı test sınıfı başına tek dosya veya test adımı başına bir dosya olabilir, isteğe bağlı gzip
+ */
+public class HarExporter implements CdpEventSink, StepListener, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HarExporter.class);
+
+    private static final String DEFAULT_PAGE = "session";
+
+    /**
+     * Dosya bölme modu
+     */
+    public enum Split {
+        CLASS,
+        STEP
+    }
+
+    private final Path directory;
+    private final String baseName;
+    private final Split split;
+    private final boolean gzip;
+    private final int maxPending;
+    private final Json json = new Json();
+
+    // Tamamlanmamış istekler - en eski kayıt sınır aşılınca atılır
+    private final Map<String, PendingEntry> pending;
+
+    private Writer writer;
+    private JsonOutput output;
+    private Path currentFile;
+    private String filePage;
+    private int fileIndex;
+    private final List<Map<String, Object>> pages = new ArrayList<>();
+    private String currentPage = DEFAULT_PAGE;
+    private long entriesWritten;
+    private long pendingDropped;
+
+    /**
+     * @param directory Çıktı dizini
+     * @param baseName Dosya adı öneki (genelde test sınıfı adı)
+     * @param maxPending Bellekte tutulacak en fazla tamamlanmamış istek
+     */
+    public HarExporter(Path directory, String baseName, Split split, boolean gzip, int maxPending) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.split = split;
+        this.gzip = gzip;
+        this.maxPending = maxPending;
+        this.pages.add(page(DEFAULT_PAGE));
+        this.pending = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PendingEntry> eldest) {
+                if (size() > HarExporter.this.maxPending) {
+                    pendingDropped++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş dışa aktarıcı oluşturur
+     * devtools.har.dir, devtools.har.split (CLASS/STEP), devtools.har.gzip, devtools.har.maxPending
+     */
+    public static HarExporter fromSystemProperties(String baseName) {
+        return new HarExporter(
+                Paths.get(System.getProperty("devtools.har.dir", "target/har")),
+                baseName,
+                Split.valueOf(System.getProperty("devtools.har.split", "CLASS").toUpperCase()),
+                Boolean.getBoolean("devtools.har.gzip"),
+                Integer.getInteger("devtools.har.maxPending", 2048));
+    }
+
+    @Override
+    public synchronized void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT: {
+                RequestWillBeSent request = event.payloadAs(RequestWillBeSent.class);
+                // Redirect: aynı requestId yeni hop ile gelir, önceki hop redirect response ile tamamlanır
+                if (request.getRedirectResponse().isPresent()) {
+                    PendingEntry previous = pending.remove(event.key());
+                    if (previous != null) {
+                        previous.response = request.getRedirectResponse().get();
+                        writeEntry(previous, request.getTimestamp().toJson().doubleValue(), 0, null);
+                    }
+                }
+                pending.put(event.key(), new PendingEntry(event.key(), request, currentPage));
+                break;
+            }
+            case RESPONSE_RECEIVED: {
+                PendingEntry entry = pending.get(event.key());
+                if (entry != null) {
+                    entry.response = event.payloadAs(ResponseReceived.class).getResponse();
+                }
+                break;
+            }
+            case LOADING_FINISHED: {
+                LoadingFinished finished = event.payloadAs(LoadingFinished.class);
+                PendingEntry entry = pending.remove(event.key());
+                if (entry != null) {
+                    writeEntry(entry, finished.getTimestamp().toJson().doubleValue(),
+                            finished.getEncodedDataLength().longValue(), null);
+                }
+                break;
+            }
+            case LOADING_FAILED: {
+                LoadingFailed failure = event.payloadAs(LoadingFailed.class);
+                PendingEntry entry = pending.remove(event.key());
+                if (entry != null) {
+                    writeEntry(entry, failure.getTimestamp().toJson().doubleValue(), 0, failure.getErrorText());
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public synchronized void onStepStart(String stepName) {
+        if (split == Split.STEP) {
+            closeFile();
+        }
+        currentPage = stepName;
+        pages.add(page(stepName));
+    }
+
+    @Override
+    public synchronized void onStepEnd(String stepName, long durationMillis) {
+        if (split == Split.STEP) {
+            closeFile();
+        }
+        currentPage = DEFAULT_PAGE;
+    }
+
+    private static Map<String, Object> page(String id) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("startedDateTime", Instant.now().toString());
+        page.put("id", id);
+        page.put("title", id);
+        page.put("pageTimings", Map.of());
+        return page;
+    }
+
+    private void writeEntry(PendingEntry entry, double endSeconds, long encodedLength, String errorText) {
+        try {
+            ensureOpen();
+            output.write(toHarEntry(entry, endSeconds, encodedLength, errorText));
+            entriesWritten++;
+        } catch (Exception e) {
+            logger.warn("Failed to write HAR entry for {}: {}", entry.requestId, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toHarEntry(PendingEntry entry, double endSeconds, long encodedLength, String errorText) {
+        Request request = entry.request.getRequest();
+        Response response = entry.response;
+        double startSeconds = entry.request.getTimestamp().toJson().doubleValue();
+        double wallSeconds = entry.request.getWallTime().toJson().doubleValue();
+
+        Map<String, Object> harRequest = new LinkedHashMap<>();
+        harRequest.put("method", request.getMethod());
+        harRequest.put("url", request.getUrl());
+        harRequest.put("httpVersion", response != null ? response.getProtocol().orElse("") : "");
+        harRequest.put("cookies", List.of());
+        harRequest.put("headers", headers(request.getHeaders().toJson()));
+        harRequest.put("queryString", List.of());
+        request.getPostData().ifPresent(body -> harRequest.put("postData", Map.of(
+                "mimeType", header(request.getHeaders().toJson(), "Content-Type"),
+                "text", body)));
+        harRequest.put("headersSize", -1);
+        harRequest.put("bodySize", request.getPostData().map(String::length).orElse(0));
+
+        Map<String, Object> harResponse = new LinkedHashMap<>();
+        harResponse.put("status", response != null ? response.getStatus() : 0);
+        harResponse.put("statusText", response != null ? response.getStatusText() : "");
+        harResponse.put("httpVersion", response != null ? response.getProtocol().orElse("") : "");
+        harResponse.put("cookies", List.of());
+        harResponse.put("headers", response != null ? headers(response.getHeaders().toJson()) : List.of());
+        harResponse.put("content", Map.of(
+                "size", encodedLength,
+                "mimeType", response != null ? response.getMimeType() : "x-unknown"));
+        harResponse.put("redirectURL", response != null
+                ? header(response.getHeaders().toJson(), "Location") : "");
+        harResponse.put("headersSize", -1);
+        harResponse.put("bodySize", encodedLength);
+
+        Map<String, Object> harEntry = new LinkedHashMap<>();
+        harEntry.put("pageref", entry.page);
+        harEntry.put("startedDateTime", Instant.ofEpochMilli((long) (wallSeconds * 1000)).toString());
+        harEntry.put("time", Math.max(0, (endSeconds - startSeconds) * 1000));
+        harEntry.put("request", harRequest);
+        harEntry.put("response", harResponse);
+        harEntry.put("cache", Map.of());
+        harEntry.put("timings", timings(response, startSeconds, endSeconds));
+        harEntry.put("_requestId", entry.requestId);
+        if (errorText != null) {
+            harEntry.put("_error", errorText);
+        }
+        return harEntry;
+    }
+
+    /**
+     * CDP ResourceTiming (requestTime'a göre ms ofsetleri) değerlerini HAR timings alanlarına çevirir
+     */
+    private static Map<String, Object> timings(Response response, double startSeconds, double endSeconds) {
+        Map<String, Object> timings = new LinkedHashMap<>();
+        ResourceTiming timing = response != null ? response.getTiming().orElse(null) : null;
+        if (timing == null) {
+            timings.put("send", 0);
+            timings.put("wait", Math.max(0, (endSeconds - startSeconds) * 1000));
+            timings.put("receive", 0);
+            return timings;
+        }
+
+        double requestTime = timing.getRequestTime().doubleValue();
+        double dnsStart = timing.getDnsStart().doubleValue();
+        double connectStart = timing.getConnectStart().doubleValue();
+        double sendStart = timing.getSendStart().doubleValue();
+        double sendEnd = timing.getSendEnd().doubleValue();
+        double headersEnd = timing.getReceiveHeadersEnd().doubleValue();
+
+        double firstPhase = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart;
+        timings.put("blocked", Math.max(0, (requestTime - startSeconds) * 1000 + firstPhase));
+        timings.put("dns", phase(dnsStart, timing.getDnsEnd().doubleValue()));
+        timings.put("connect", phase(connectStart, timing.getConnectEnd().doubleValue()));
+        timings.put("ssl", phase(timing.getSslStart().doubleValue(), timing.getSslEnd().doubleValue()));
+        timings.put("send", Math.max(0, sendEnd - sendStart));
+        timings.put("wait", Math.max(0, headersEnd - sendEnd));
+        timings.put("receive", Math.max(0, (endSeconds - requestTime) * 1000 - headersEnd));
+        return timings;
+    }
+
+    private static double phase(double start, double end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+
+    private static List<Map<String, Object>> headers(Map<String, Object> headers) {
+        List<Map<String, Object>> list = new ArrayList<>(headers.size());
+        headers.forEach((name, value) -> list.add(Map.of("name", name, "value", String.valueOf(value))));
+        return list;
+    }
+
+    /**
+     * Header değerini büyük/küçük harf duyarsız okur (HTTP/2 header isimleri küçük harflidir); yoksa boş string
+     */
+    private static String header(Map<String, Object> headers, String name) {
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return String.valueOf(header.getValue());
+            }
+        }
+        return "";
+    }
+
+    private void ensureOpen() throws IOException {
+        if (output != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        filePage = currentPage;
+        String name = split == Split.STEP
+                ? String.format("%s-%02d-%s", baseName, ++fileIndex, sanitize(currentPage))
+                : baseName;
+        currentFile = directory.resolve(name + (gzip ? ".har.gz" : ".har"));
+
+        OutputStream stream = Files.newOutputStream(currentFile);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, 64 * 1024);
+        }
+        writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024);
+        output = json.newOutput(writer).setPrettyPrint(false).writeClassName(false);
+
+        output.beginObject().name("log").beginObject();
+        output.name("version").write("1.2");
+        output.name("creator").write(Map.of("name", "TestAutomation_with_DevTools", "version", "1.0"));
+        output.name("entries").beginArray();
+    }
+
+    private void closeFile() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.endArray();
+            List<Map<String, Object>> filePages = pages;
+            if (split == Split.STEP) {
+                filePages = new ArrayList<>();
+                for (Map<String, Object> page : pages) {
+                    if (page.get("id").equals(filePage)) {
+                        filePages.add(page);
+                        break;
+                    }
+                }
+            }
+            output.name("pages").write(filePages);
+            output.endObject().endObject();
+            output.close();
+            logger.info("HAR written: {} ({} entries so far)", currentFile, entriesWritten);
+        } catch (Exception e) {
+            logger.warn("Failed to finish HAR file {}: {}", currentFile, e.getMessage());
+        } finally {
+            output = null;
+            writer = null;
+        }
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]+", "_");
+    }
+
+    /**
+     * Yazılan HAR entry sayısı
+     */
+    public synchronized long getEntriesWritten() {
+        return entriesWritten;
+    }
+
+    /**
+     * Sınır aşıldığı için atılan tamamlanmamış istek sayısı
+     */
+    public synchronized long getPendingDropped() {
+        return pendingDropped;
+    }
+
+    /**
+     * Açık dosyayı tamamlar; tamamlanmamış istekler yazılmaz
+     */
+    @Override
+    public synchronized void close() {
+        closeFile();
+        if (!pending.isEmpty() || pendingDropped > 0) {
+            logger.info("HAR export finished: {} entries, {} incomplete, {} dropped", entriesWritten, pending.size(), pendingDropped);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Tamamlanmamış istek
+     */
+    private static final class PendingEntry {
+        private final String requestId;
+        private final RequestWillBeSent request;
+        private final String page;
+        private Response response;
+
+        PendingEntry(String requestId, RequestWillBeSent request, String page) {
+            this.requestId = requestId;
+            this.request = request;
+            this.page = page;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package proje.com.saucedemo.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR tarzı log-lineer gecikme histogramı (mikrosaniye)
+ * İlk 64 değer birebir, sonrası her ikinin kuvveti aralığı 32 alt kovaya bölünür (~%3 hassasiyet)
+ * Kayıt işlemi kilitsiz, sabit bellekli ve nesne oluşturmaz. Kovalar birimden bağımsızdır; summarize()
+ * mikrosaniye varsayar, diğer birimler valueAtPercentile/maxValue ile okunur
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int SUB_BITS = 5;
+    // 2^36 mikrosaniye (~19 saat) üstü son kovaya düşer
+    private static final int MAX_EXPONENT = 36;
+    static final int BUCKET_COUNT = LINEAR_BUCKETS + (MAX_EXPONENT - SUB_BITS - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Gecikme değerini kaydeder (negatif değerler 0 sayılır)
+     */
+    public void record(long micros) {
+        counts.incrementAndGet(bucketIndex(Math.max(0, micros)));
+    }
+
+    /**
+     * Kova sayılarının anlık kopyasını alır (adım bazlı fark hesapları için)
+     */
+    public long[] snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Histogramın özetini alır
+     */
+    public LatencySummary summarize() {
+        return summarize(snapshot());
+    }
+
+    /**
+     * Kova sayılarından p50/p90/p95/p99/max özetini hesaplar
+     */
+    public static LatencySummary summarize(long[] bucketCounts) {
+        long total = 0;
+        int highest = -1;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            total += bucketCounts[i];
+            if (bucketCounts[i] > 0) {
+                highest = i;
+            }
+        }
+        if (total == 0) {
+            return LatencySummary.EMPTY;
+        }
+        return new LatencySummary(
+                total,
+                valueAtPercentile(bucketCounts, total, 50.0),
+                valueAtPercentile(bucketCounts, total, 90.0),
+                valueAtPercentile(bucketCounts, total, 95.0),
+                valueAtPercentile(bucketCounts, total, 99.0),
+                highestEquivalentValue(highest));
+    }
+
+    /**
+     * Verilen yüzdelikteki değer; birim kaydedilen değerin birimidir (boş histogramda 0)
+     * Gecikme dışı dağılımlar (ör. byte boyutları) LatencySummary yerine bununla okunur
+     */
+    public long valueAtPercentile(double percentile) {
+        long[] bucketCounts = snapshot();
+        long total = 0;
+        for (long count : bucketCounts) {
+            total += count;
+        }
+        return total == 0 ? 0 : valueAtPercentile(bucketCounts, total, percentile);
+    }
+
+    /**
+     * Kaydedilen en büyük değer (kova hassasiyetinde, boş histogramda 0)
+     */
+    public long maxValue() {
+        for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+            if (counts.get(i) > 0) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return 0;
+    }
+
+    private static long valueAtPercentile(long[] bucketCounts, long total, double percentile) {
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= target) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return highestEquivalentValue(bucketCounts.length - 1);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKETS;
+        int shift = offset / SUB_BUCKETS + 1;
+        long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        return lowestEquivalentValue(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,21 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Gecikme dağılımı özeti (değerler mikrosaniye)
+ */
+public record LatencySummary(long count, long p50Micros, long p90Micros, long p95Micros, long p99Micros, long maxMicros) {
+
+    public static final LatencySummary EMPTY = new LatencySummary(0, 0, 0, 0, 0, 0);
+
+    public double p50Millis() { return p50Micros / 1000.0; }
+    public double p90Millis() { return p90Micros / 1000.0; }
+    public double p95Millis() { return p95Micros / 1000.0; }
+    public double p99Millis() { return p99Micros / 1000.0; }
+    public double maxMillis() { return maxMicros / 1000.0; }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                count, p50Millis(), p90Millis(), p99Millis(), maxMillis());
+    }
+}
@@ -0,0 +1,235 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.heapprofiler.HeapProfiler;
+import org.openqa.selenium.devtools.v138.memory.Memory;
+import org.openqa.selenium.devtools.v138.runtime.Runtime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Test adımları arasında JS heap ve DOM sayaçlarını izleyen bellek sızıntısı dedektörü
+ * Her adım sonunda Runtime.getHeapUsage ve Memory.getDOMCounters örneklenir; bir metrik tüm adımlar
+ * boyunca sürekli artıyorsa uyarı verilir, heap artışı eşiği geçerse HeapProfiler snapshot'ı
+ * parça parça diske yazılır
+ */
+public class MemoryLeakDetector implements StepListener {
+
+    private static final Logger performanceLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Performance");
+
+    private final DevTools devTools;
+    private final boolean collectGarbage;
+    private final int minSamples;
+    private final long growthThresholdBytes;
+    private final boolean snapshotEnabled;
+    private final Path snapshotDirectory;
+    private final String runLabel;
+
+    private final List<MemorySample> samples = new ArrayList<>();
+    private boolean snapshotTaken = false;
+    private boolean heapProfilerEnabled = false;
+
+    // Heap snapshot parçaları CDP thread'inde bu dosyaya yazılır
+    private Writer snapshotWriter;
+    private volatile long lastChunkNanos;
+
+    /**
+     * @param runLabel Snapshot dosya adına eklenen koşu etiketi (network profili ve CPU oranı)
+     */
+    public MemoryLeakDetector(DevTools devTools, boolean collectGarbage, int minSamples, long growthThresholdBytes,
+                              boolean snapshotEnabled, Path snapshotDirectory, String runLabel) {
+        this.devTools = devTools;
+        this.collectGarbage = collectGarbage;
+        this.minSamples = Math.max(2, minSamples);
+        this.growthThresholdBytes = growthThresholdBytes;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotDirectory = snapshotDirectory;
+        this.runLabel = runLabel;
+    }
+
+    /**
+     * HeapProfiler domain'ini ilk ihtiyaçta (GC veya snapshot) etkinleştirir
+     */
+    private void ensureHeapProfiler() {
+        if (heapProfilerEnabled) {
+            return;
+        }
+        devTools.send(HeapProfiler.enable());
+        devTools.addListener(HeapProfiler.addHeapSnapshotChunk(), this::writeChunk);
+        heapProfilerEnabled = true;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş dedektör oluşturur
+     * devtools.memory.gcBeforeSample, devtools.memory.minSamples, devtools.memory.growthThresholdMb,
+     * devtools.memory.snapshot, devtools.memory.snapshotDir
+     * @param networkProfile Aktif network profili (snapshot dosya adı için)
+     * @param cpuThrottlingRate Aktif CPU yavaşlatma oranı (snapshot dosya adı için)
+     */
+    public static MemoryLeakDetector fromSystemProperties(DevTools devTools, String networkProfile, double cpuThrottlingRate) {
+        return new MemoryLeakDetector(
+                devTools,
+                Boolean.getBoolean("devtools.memory.gcBeforeSample"),
+                Integer.getInteger("devtools.memory.minSamples", 3),
+                Integer.getInteger("devtools.memory.growthThresholdMb", 20) * 1024L * 1024L,
+                Boolean.getBoolean("devtools.memory.snapshot"),
+                Paths.get(System.getProperty("devtools.memory.snapshotDir", "target/heap")),
+                String.format(Locale.ROOT, "%s_cpu%.1fx", networkProfile, cpuThrottlingRate));
+    }
+
+    @Override
+    public void onStepEnd(String stepName, long durationMillis) {
+        try {
+            if (collectGarbage) {
+                // Toplanabilir çöp artış gibi görünmesin; tam GC adım sürelerini etkilediği için varsayılan kapalıdır
+                ensureHeapProfiler();
+                devTools.send(HeapProfiler.collectGarbage());
+            }
+            Runtime.GetHeapUsageResponse heap = devTools.send(Runtime.getHeapUsage());
+            Memory.GetDOMCountersResponse counters = devTools.send(Memory.getDOMCounters());
+
+            MemorySample sample = new MemorySample(
+                    stepName,
+                    heap.getUsedSize().longValue(),
+                    heap.getTotalSize().longValue(),
+                    counters.getDocuments(),
+                    counters.getNodes(),
+                    counters.getJsEventListeners());
+            synchronized (samples) {
+                samples.add(sample);
+            }
+            performanceLogger.info("[CDP][Memory] {}", sample);
+
+            analyze(stepName);
+        } catch (Exception e) {
+            performanceLogger.warn("[CDP][Memory] Could not sample memory after '{}': {}", stepName, e.getMessage());
+        }
+    }
+
+    private void analyze(String stepName) {
+        List<MemorySample> snapshot = getSamples();
+        if (snapshot.size() < minSamples) {
+            return;
+        }
+
+        boolean heapGrowing = isMonotonic(snapshot, MemorySample::usedHeapBytes);
+        report(heapGrowing, "JS heap", snapshot, MemorySample::usedHeapBytes);
+        report(isMonotonic(snapshot, MemorySample::documents), "documents", snapshot, MemorySample::documents);
+        report(isMonotonic(snapshot, MemorySample::nodes), "DOM nodes", snapshot, MemorySample::nodes);
+        report(isMonotonic(snapshot, MemorySample::jsEventListeners), "event listeners", snapshot, MemorySample::jsEventListeners);
+
+        long growth = snapshot.get(snapshot.size() - 1).usedHeapBytes() - snapshot.get(0).usedHeapBytes();
+        if (heapGrowing && growth >= growthThresholdBytes && snapshotEnabled && !snapshotTaken) {
+            snapshotTaken = true;
+            takeHeapSnapshot(stepName);
+        }
+    }
+
+    private void report(boolean growing, String metric, List<MemorySample> snapshot, ToLongFunction<MemorySample> value) {
+        if (growing) {
+            long first = value.applyAsLong(snapshot.get(0));
+            long last = value.applyAsLong(snapshot.get(snapshot.size() - 1));
+            performanceLogger.warn("[CDP][Memory] Possible leak: {} grew on every step for {} steps ({} -> {})",
+                    metric, snapshot.size(), first, last);
+        }
+    }
+
+    /**
+     * Her örnek bir öncekinden büyük mü?
+     */
+    static boolean isMonotonic(List<MemorySample> samples, ToLongFunction<MemorySample> value) {
+        for (int i = 1; i < samples.size(); i++) {
+            if (value.applyAsLong(samples.get(i)) <= value.applyAsLong(samples.get(i - 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Heap snapshot alır; parçalar addHeapSnapshotChunk olaylarıyla gelir ve doğrudan dosyaya yazılır
+     */
+    private void takeHeapSnapshot(String stepName) {
+        Path file = snapshotDirectory.resolve((stepName + "_" + runLabel).replaceAll("[^A-Za-z0-9._-]+", "_") + ".heapsnapshot");
+        try {
+            Files.createDirectories(snapshotDirectory);
+            ensureHeapProfiler();
+            synchronized (this) {
+                snapshotWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            }
+            lastChunkNanos = System.nanoTime();
+            devTools.send(HeapProfiler.takeHeapSnapshot(Optional.of(false), Optional.empty(), Optional.empty(),
+                    Optional.empty()));
+
+            // Son parçalar komut yanıtından sonra işlenebilir; parça akışı durana kadar bekle
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (System.nanoTime() - lastChunkNanos < TimeUnit.SECONDS.toNanos(1) && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            performanceLogger.warn("[CDP][Memory] Heap snapshot after '{}' written to {}", stepName, file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            performanceLogger.warn("[CDP][Memory] Heap snapshot failed: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                try {
+                    if (snapshotWriter != null) {
+                        snapshotWriter.close();
+                    }
+                } catch (IOException e) {
+                    performanceLogger.warn("[CDP][Memory] Could not close heap snapshot {}: {}", file, e.getMessage());
+                }
+                snapshotWriter = null;
+            }
+        }
+    }
+
+    private synchronized void writeChunk(String chunk) {
+        if (snapshotWriter == null) {
+            return;
+        }
+        try {
+            snapshotWriter.write(chunk);
+            lastChunkNanos = System.nanoTime();
+        } catch (IOException e) {
+            performanceLogger.warn("[CDP][Memory] Could not write heap snapshot chunk: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adım bazında bellek örneklerini al
+     */
+    public List<MemorySample> getSamples() {
+        synchronized (samples) {
+            return List.copyOf(samples);
+        }
+    }
+
+    /**
+     * Bir adım sonundaki bellek durumu
+     */
+    public record MemorySample(String stepName, long usedHeapBytes, long totalHeapBytes,
+                               long documents, long nodes, long jsEventListeners) {
+
+        @Override
+        public String toString() {
+            return String.format("After '%s': heap=%.1f/%.1fMB, documents=%d, nodes=%d, listeners=%d",
+                    stepName, usedHeapBytes / (1024.0 * 1024), totalHeapBytes / (1024.0 * 1024),
+                    documents, nodes, jsEventListeners);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package proje.com.saucedemo.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sabit kapasiteli, primitive kolonlu metrik zaman serisi
+ * Her örnek bir zaman damgası ve metrik başına bir double değerdir; kapasite dolunca en eski örneğin üzerine yazılır
+ * Metrik isimleri ilk görüldüklerinde kolon olarak kaydedilir
+ */
+public final class MetricTimeSeries {
+
+    private static final int MAX_METRICS = 64;
+
+    private final int capacity;
+    private final long[] timestamps;
+    private final double[][] columns = new double[MAX_METRICS][];
+    private final String[] names = new String[MAX_METRICS];
+    private final Map<String, Integer> indexByName = new LinkedHashMap<>();
+    private long sampleCount;
+
+    public MetricTimeSeries(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.timestamps = new long[this.capacity];
+    }
+
+    /**
+     * Metrik kolonunun indeksini döndürür, yoksa oluşturur (kolon sınırı aşılırsa -1)
+     */
+    public synchronized int column(String name) {
+        Integer index = indexByName.get(name);
+        if (index != null) {
+            return index;
+        }
+        int next = indexByName.size();
+        if (next >= MAX_METRICS) {
+            return -1;
+        }
+        double[] column = new double[capacity];
+        Arrays.fill(column, Double.NaN);
+        columns[next] = column;
+        names[next] = name;
+        indexByName.put(name, next);
+        return next;
+    }
+
+    /**
+     * Yeni örnek satırı açar ve satır indeksini döndürür
+     */
+    public synchronized int startSample(long timestampMillis) {
+        int row = (int) (sampleCount % capacity);
+        timestamps[row] = timestampMillis;
+        for (int i = 0; i < indexByName.size(); i++) {
+            columns[i][row] = Double.NaN;
+        }
+        sampleCount++;
+        return row;
+    }
+
+    /**
+     * Satıra metrik değeri yazar
+     */
+    public synchronized void set(int row, int column, double value) {
+        if (column >= 0) {
+            columns[column][row] = value;
+        }
+    }
+
+    /**
+     * Satırdaki metrikleri isim -> değer olarak döndürür
+     */
+    public synchronized Map<String, Double> row(int row) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (int i = 0; i < indexByName.size(); i++) {
+            double value = columns[i][row];
+            if (!Double.isNaN(value)) {
+                values.put(names[i], value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Bir metriğin son değerlerini eskiden yeniye doğru döndürür
+     */
+    public synchronized double[] values(String name) {
+        Integer index = indexByName.get(name);
+        int size = size();
+        double[] values = new double[index == null ? 0 : size];
+        if (index == null) {
+            return values;
+        }
+        long first = sampleCount - size;
+        for (int i = 0; i < size; i++) {
+            values[i] = columns[index][(int) ((first + i) % capacity)];
+        }
+        return values;
+    }
+
+    /**
+     * Tampondaki örnek sayısı
+     */
+    public synchronized int size() {
+        return (int) Math.min(sampleCount, capacity);
+    }
+
+    /**
+     * Toplam alınan örnek sayısı (üzerine yazılanlar dahil)
+     */
+    public synchronized long totalSamples() {
+        return sampleCount;
+    }
+}
@@ -0,0 +1,268 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.fetch.Fetch;
+import org.openqa.selenium.devtools.v138.fetch.model.HeaderEntry;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPaused;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestStage;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fetch interception üzerinden çalışan kayıt/tekrar oynatma network önbelleği
+ * RECORD modunda response gövdeleri içerik hash'i (SHA-256) ile objects/ altına, status ve header'lar
+ * istek anahtarı ile entries/ altına yazılır; REPLAY modunda eşleşen istekler Fetch.fulfillRequest ile
+ * diskten (memory-mapped okuma) yanıtlanır, eşleşmeyenler network'e devam eder
+ */
+public class NetworkCache implements FetchHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkCache.class);
+
+    // Gövde zaten çözülmüş olarak döndüğü için tekrar oynatmada taşınmaması gereken header'lar
+    private static final Set<String> STRIPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    /**
+     * Önbellek modu
+     */
+    public enum Mode {
+        OFF,
+        RECORD,
+        REPLAY
+    }
+
+    private final Path entriesDirectory;
+    private final Path objectsDirectory;
+    private final Mode mode;
+    private final Json json = new Json();
+    private final Map<String, Map<String, Object>> entryCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    public NetworkCache(Path directory, Mode mode) {
+        this.entriesDirectory = directory.resolve("entries");
+        this.objectsDirectory = directory.resolve("objects");
+        this.mode = mode;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş önbellek oluşturur
+     * devtools.cache.dir, devtools.cache.mode (OFF/RECORD/REPLAY)
+     */
+    public static NetworkCache fromSystemProperties() {
+        return new NetworkCache(
+                Paths.get(System.getProperty("devtools.cache.dir", "target/network-cache")),
+                Mode.valueOf(System.getProperty("devtools.cache.mode", "OFF").toUpperCase()));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public List<RequestPattern> patterns() {
+        RequestStage stage = mode == Mode.RECORD ? RequestStage.RESPONSE : RequestStage.REQUEST;
+        return List.of(new RequestPattern(Optional.of("*"), Optional.empty(), Optional.of(stage)));
+    }
+
+    @Override
+    public boolean onRequestPaused(RequestPaused event, DevTools devTools) {
+        switch (mode) {
+            case RECORD:
+                if (event.getResponseStatusCode().isPresent()) {
+                    record(event, devTools);
+                }
+                return false;
+            case REPLAY:
+                if (event.getResponseStatusCode().isEmpty()) {
+                    return replay(event, devTools);
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private void record(RequestPaused event, DevTools devTools) {
+        int status = event.getResponseStatusCode().get();
+        // Redirect'lerin gövdesi yoktur, tarayıcı hedefi ayrı istek olarak getirir
+        if (status >= 300 && status < 400) {
+            return;
+        }
+        try {
+            Fetch.GetResponseBodyResponse body = devTools.send(Fetch.getResponseBody(event.getRequestId()));
+            byte[] bytes = body.getBase64Encoded()
+                    ? Base64.getDecoder().decode(body.getBody())
+                    : body.getBody().getBytes(StandardCharsets.UTF_8);
+
+            String objectHash = sha256(bytes);
+            Path object = objectsDirectory.resolve(objectHash);
+            if (!Files.exists(object)) {
+                writeAtomically(object, bytes);
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("url", event.getRequest().getUrl());
+            entry.put("status", status);
+            entry.put("statusText", event.getResponseStatusText().orElse(""));
+            List<Map<String, String>> headers = new ArrayList<>();
+            for (HeaderEntry header : event.getResponseHeaders().orElse(List.of())) {
+                if (!STRIPPED_HEADERS.contains(header.getName().toLowerCase())) {
+                    headers.add(Map.of("name", header.getName(), "value", header.getValue()));
+                }
+            }
+            entry.put("headers", headers);
+            entry.put("object", objectHash);
+
+            String key = requestKey(event);
+            writeAtomically(entriesDirectory.resolve(key + ".json"), json.toJson(entry).getBytes(StandardCharsets.UTF_8));
+            entryCache.put(key, entry);
+            recorded.incrementAndGet();
+        } catch (Exception e) {
+            logger.debug("[CDP][Cache] Could not record {}: {}", event.getRequest().getUrl(), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean replay(RequestPaused event, DevTools devTools) {
+        Map<String, Object> entry = lookup(requestKey(event));
+        if (entry == null) {
+            misses.incrementAndGet();
+            logger.debug("[CDP][Cache] Miss {} {}", event.getRequest().getMethod(), event.getRequest().getUrl());
+            return false;
+        }
+        try {
+            Path object = objectsDirectory.resolve((String) entry.get("object"));
+            String body;
+            long size;
+            try (FileChannel channel = FileChannel.open(object, StandardOpenOption.READ)) {
+                size = channel.size();
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                ByteBuffer encoded = Base64.getEncoder().encode(mapped);
+                body = StandardCharsets.ISO_8859_1.decode(encoded).toString();
+            }
+
+            List<HeaderEntry> headers = new ArrayList<>();
+            for (Map<String, Object> header : (List<Map<String, Object>>) entry.get("headers")) {
+                headers.add(new HeaderEntry((String) header.get("name"), (String) header.get("value")));
+            }
+            String statusText = (String) entry.get("statusText");
+
+            devTools.send(Fetch.fulfillRequest(
+                event.getRequestId(),
+                ((Number) entry.get("status")).intValue(),
+                Optional.of(headers),
+                Optional.empty(),
+                Optional.of(body),
+                statusText == null || statusText.isEmpty() ? Optional.empty() : Optional.of(statusText)
+            ));
+            hits.incrementAndGet();
+            bytesServed.addAndGet(size);
+            return true;
+        } catch (Exception e) {
+            misses.incrementAndGet();
+            logger.warn("[CDP][Cache] Replay failed for {}: {}", event.getRequest().getUrl(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<String, Object> lookup(String key) {
+        Map<String, Object> entry = entryCache.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        Path file = entriesDirectory.resolve(key + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            entry = json.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            entryCache.put(key, entry);
+            return entry;
+        } catch (IOException e) {
+            logger.warn("[CDP][Cache] Corrupt cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * İstek anahtarı: metod, fragment'sız URL ve varsa gövdenin hash'i
+     */
+    static String requestKey(RequestPaused event) {
+        String url = event.getRequest().getUrl();
+        int fragment = url.indexOf('#');
+        if (fragment >= 0) {
+            url = url.substring(0, fragment);
+        }
+        String key = event.getRequest().getMethod() + " " + url;
+        Optional<String> postData = event.getRequest().getPostData();
+        if (postData.isPresent()) {
+            key += " " + sha256(postData.get().getBytes(StandardCharsets.UTF_8));
+        }
+        return sha256(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Yarım yazılmış dosyaların tekrar oynatmada okunmaması için geçici dosya + atomic move
+     */
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(temp, bytes);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Önbellek istatistiklerini al
+     */
+    public Stats getStats() {
+        return new Stats(mode, recorded.get(), hits.get(), misses.get(), bytesServed.get());
+    }
+
+    /**
+     * Önbellek istatistikleri
+     */
+    public record Stats(Mode mode, long recorded, long hits, long misses, long bytesServed) {
+
+        @Override
+        public String toString() {
+            return String.format("NetworkCache{mode=%s, recorded=%d, hits=%d, misses=%d, served=%dKB}",
+                    mode, recorded, hits, misses, bytesServed / 1024);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package proje.com.saucedemo.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Network.emulateNetworkConditions profili
+ * Hazır profiller: NONE, OFFLINE, SLOW_3G, 3G, 4G, DSL; özel profil "custom:latency=150,down=1600,up=750" (ms, kbit/s)
+ *
+ * @param name Profil adı (raporlarda görünür)
+ * @param offline Bağlantı tamamen kesik mi
+ * @param latencyMillis Ek gidiş-dönüş gecikmesi
+ * @param downloadBytesPerSecond İndirme hızı (-1 sınırsız)
+ * @param uploadBytesPerSecond Yükleme hızı (-1 sınırsız)
+ */
+public record NetworkConditions(String name, boolean offline, double latencyMillis,
+                                double downloadBytesPerSecond, double uploadBytesPerSecond) {
+
+    public static final NetworkConditions NONE = new NetworkConditions("NONE", false, 0, -1, -1);
+
+    private static final Map<String, NetworkConditions> PRESETS = new LinkedHashMap<>();
+
+    static {
+        register(NONE);
+        register(new NetworkConditions("OFFLINE", true, 0, 0, 0));
+        register(new NetworkConditions("SLOW_3G", false, 2000, kbps(400), kbps(400)));
+        register(new NetworkConditions("3G", false, 563, kbps(1600), kbps(750)));
+        register(new NetworkConditions("4G", false, 170, kbps(9000), kbps(9000)));
+        register(new NetworkConditions("DSL", false, 5, kbps(2000), kbps(1000)));
+    }
+
+    private static void register(NetworkConditions conditions) {
+        PRESETS.put(conditions.name(), conditions);
+    }
+
+    private static double kbps(double kilobits) {
+        return kilobits * 1000 / 8;
+    }
+
+    /**
+     * Emülasyon uygulanmayacak mı?
+     */
+    public boolean isNone() {
+        return !offline && latencyMillis == 0 && downloadBytesPerSecond < 0 && uploadBytesPerSecond < 0;
+    }
+
+    /**
+     * Hazır profil adını veya "custom:latency=..,down=..,up=.." tanımını çözümler
+     * @throws IllegalArgumentException Bilinmeyen profil veya hatalı tanım
+     */
+    public static NetworkConditions parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return NONE;
+        }
+        String trimmed = spec.trim();
+        if (!trimmed.toLowerCase(Locale.ROOT).startsWith("custom:")) {
+            NetworkConditions preset = PRESETS.get(trimmed.toUpperCase(Locale.ROOT));
+            if (preset == null) {
+                throw new IllegalArgumentException("Unknown network profile: " + spec + " (known: " + PRESETS.keySet() + ")");
+            }
+            return preset;
+        }
+
+        double latency = 0;
+        double down = -1;
+        double up = -1;
+        for (String part : trimmed.substring("custom:".length()).split(",")) {
+            String[] keyValue = part.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Invalid network profile parameter: " + part);
+            }
+            double value = Double.parseDouble(keyValue[1].trim());
+            switch (keyValue[0].trim().toLowerCase(Locale.ROOT)) {
+                case "latency":
+                    latency = value;
+                    break;
+                case "down":
+                    down = kbps(value);
+                    break;
+                case "up":
+                    up = kbps(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid network profile parameter: " + part);
+            }
+        }
+        return new NetworkConditions(trimmed, false, latency, down, up);
+    }
+}
@@ -0,0 +1,70 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tüm network trafiği için şeritli (LongAdder) sayaçlar
+ * Tüketici thread'ler birbirini beklemeden artırır; okuma sadece snapshot alınırken yapılır
+ */
+public class NetworkCounters implements CdpEventSink {
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+
+    @Override
+    public void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT:
+                requests.increment();
+                break;
+            case RESPONSE_RECEIVED:
+                responses.increment();
+                break;
+            case LOADING_FINISHED:
+                finished.increment();
+                encodedBytes.add(event.payloadAs(LoadingFinished.class).getEncodedDataLength().longValue());
+                break;
+            case LOADING_FAILED:
+                failures.increment();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Oturum boyunca aktarılan toplam (encoded) byte
+     */
+    public long encodedBytes() {
+        return encodedBytes.sum();
+    }
+
+    /**
+     * Sayaçların ve aşama histogramlarının anlık kopyası
+     */
+    public Snapshot snapshot(NetworkLifecycleTracker lifecycleTracker) {
+        long[][] phaseBuckets = new long[PHASES.length][];
+        for (RequestPhase phase : PHASES) {
+            phaseBuckets[phase.ordinal()] = lifecycleTracker.snapshot(phase);
+        }
+        return new Snapshot(System.currentTimeMillis(), requests.sum(), responses.sum(), finished.sum(),
+                failures.sum(), encodedBytes.sum(), phaseBuckets);
+    }
+
+    /**
+     * Belirli bir andaki kümülatif network sayaçları
+     * @param phaseBuckets RequestPhase sırasına göre histogram kova sayıları
+     */
+    public record Snapshot(long capturedAtMillis, long requests, long responses, long finished, long failures,
+                           long encodedBytes, long[][] phaseBuckets) {
+
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, new long[PHASES.length][0]);
+    }
+}
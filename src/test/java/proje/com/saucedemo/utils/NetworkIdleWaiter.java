@@ -0,0 +1,131 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.page.model.LifecycleEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Olay hattındaki network ve sayfa yaşam döngüsü olaylarından "sayfa oturdu" durumunu izleyen bekleyici
+ * Sabit Thread.sleep yerine, test sadece gerçekten gereken süre kadar bekler
+ * Bekleyen istekler ayrı bir tabloda tutulmaz, DevToolsHelper'ın RequestTimingTable'ından sayılır;
+ * olaylar düşürülebildiği için staleMillis'ten eski bekleyen istekler (long-polling vb.) sayılmaz
+ */
+public class NetworkIdleWaiter implements CdpEventSink {
+
+    private static final Logger networkLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Network");
+
+    private final RequestTimingTable requestTimings;
+    private final long staleMillis;
+    private final Object monitor = new Object();
+    private volatile long lastActivityMillis = System.currentTimeMillis();
+    private volatile String mainFrameId;
+    private volatile boolean documentLoaded = true;
+
+    /**
+     * @param requestTimings Bekleyen isteklerin okunacağı zamanlama tablosu (olay hattında bu bekleyiciden önce güncellenir)
+     */
+    public NetworkIdleWaiter(RequestTimingTable requestTimings, long staleMillis) {
+        this.requestTimings = requestTimings;
+        this.staleMillis = staleMillis;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş bekleyici oluşturur
+     * devtools.idle.staleMs
+     */
+    public static NetworkIdleWaiter fromSystemProperties(RequestTimingTable requestTimings) {
+        return new NetworkIdleWaiter(requestTimings, Long.getLong("devtools.idle.staleMs", 30_000L));
+    }
+
+    /**
+     * Yaşam döngüsü olaylarının filtreleneceği ana frame
+     */
+    public void setMainFrameId(String mainFrameId) {
+        this.mainFrameId = mainFrameId;
+    }
+
+    @Override
+    public void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT:
+            case LOADING_FINISHED:
+            case LOADING_FAILED:
+                // Sayım tablodan yapılır; burada sadece aktivite zamanı güncellenir ve bekleyenler uyandırılır
+                break;
+            case PAGE_LIFECYCLE: {
+                LifecycleEvent lifecycle = event.payloadAs(LifecycleEvent.class);
+                if (mainFrameId != null && !mainFrameId.equals(lifecycle.getFrameId().toString())) {
+                    return;
+                }
+                if ("init".equals(lifecycle.getName())) {
+                    documentLoaded = false;
+                } else if ("load".equals(lifecycle.getName())) {
+                    documentLoaded = true;
+                }
+                break;
+            }
+            case PAGE_LOAD:
+                documentLoaded = true;
+                break;
+            default:
+                return;
+        }
+        lastActivityMillis = event.receivedAtMillis();
+        synchronized (monitor) {
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * En fazla maxInflight istek açıkken quietMillis boyunca yeni network aktivitesi olmayana kadar bekler
+     * Sessizlik çağrı anından itibaren ölçülür; tıklamadan hemen sonra çağrıldığında henüz başlamamış istekler kaçmaz
+     * @return Beklenen süre (ms)
+     */
+    public long waitForNetworkIdle(long quietMillis, int maxInflight, long timeoutMillis) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeoutMillis;
+        synchronized (monitor) {
+            while (true) {
+                long now = System.currentTimeMillis();
+                long quietSince = Math.max(start, lastActivityMillis);
+                int active = activeRequests(now);
+                if (active <= maxInflight && now - quietSince >= quietMillis) {
+                    return now - start;
+                }
+                if (now >= deadline) {
+                    networkLogger.warn("[CDP][Wait] Network not idle after {}ms ({} requests in flight)", now - start, active);
+                    return now - start;
+                }
+                long quietRemaining = active <= maxInflight ? quietMillis - (now - quietSince) : quietMillis;
+                monitor.wait(Math.max(1, Math.min(quietRemaining, deadline - now)));
+            }
+        }
+    }
+
+    /**
+     * Ana frame'deki belgenin load olayını bekler; belge zaten yüklüyse hemen döner
+     * @return Beklenen süre (ms)
+     */
+    public long waitForLoadEvent(long timeoutMillis) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeoutMillis;
+        synchronized (monitor) {
+            while (!documentLoaded) {
+                long now = System.currentTimeMillis();
+                if (now >= deadline) {
+                    networkLogger.warn("[CDP][Wait] Load event not fired after {}ms", now - start);
+                    break;
+                }
+                monitor.wait(deadline - now);
+            }
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * staleMillis'ten yeni bekleyen istek sayısı; TTL'i dolan kayıtlar tablodan tahliye edilir
+     */
+    private int activeRequests(long now) {
+        return requestTimings.countPending(now, staleMillis);
+    }
+}
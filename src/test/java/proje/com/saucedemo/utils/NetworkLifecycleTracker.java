@@ -0,0 +1,157 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.DataReceived;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFailed;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v138.network.model.MonotonicTime;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.network.model.ResponseReceived;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * İstek yaşam döngüsü izleyici - sent, response header'ları, dataReceived, loadingFinished ve
+ * loadingFailed olaylarını CDP'nin kendi monotonic zaman damgalarıyla ilişkilendirir
+ * Süreler test adımı kategorisi (TestStepType) ve aşama bazında gecikme histogramlarına yazılır
+ */
+public class NetworkLifecycleTracker implements CdpEventSink {
+
+    private static final TestStepType[] STEP_TYPES = TestStepType.values();
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final RequestTimingTable timingTable;
+    private final AtomicReferenceArray<LatencyHistogram> histograms =
+            new AtomicReferenceArray<>(STEP_TYPES.length * PHASES.length);
+
+    // Tüketici thread başına tekrar kullanılan yaşam döngüsü tamponu
+    private final ThreadLocal<long[]> lifecycleBuffer = ThreadLocal.withInitial(() -> new long[4]);
+
+    public NetworkLifecycleTracker(RequestTimingTable timingTable) {
+        this.timingTable = timingTable;
+    }
+
+    @Override
+    public void onEvent(CdpEvent event) {
+        long[] lifecycle = lifecycleBuffer.get();
+
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT: {
+                RequestWillBeSent request = event.payloadAs(RequestWillBeSent.class);
+                String url = request.getRequest().getUrl();
+                String method = request.getRequest().getMethod();
+                int urlMask = UrlClassifier.DEFAULT.classify(url);
+                TestStepType category = UrlClassifier.isTestStep(urlMask, method)
+                        ? UrlClassifier.stepType(urlMask, method)
+                        : TestStepType.OTHER;
+                timingTable.put(event.key(), event.receivedAtMillis(), toMicros(request.getTimestamp()), category.ordinal());
+                break;
+            }
+            case RESPONSE_RECEIVED: {
+                ResponseReceived response = event.payloadAs(ResponseReceived.class);
+                long at = toMicros(response.getTimestamp());
+                if (timingTable.markHeaders(event.key(), at, lifecycle)) {
+                    record(lifecycle, RequestPhase.HEADERS, at - lifecycle[RequestTimingTable.SENT]);
+                }
+                break;
+            }
+            case DATA_RECEIVED: {
+                DataReceived data = event.payloadAs(DataReceived.class);
+                long at = toMicros(data.getTimestamp());
+                if (timingTable.markFirstData(event.key(), at, lifecycle)) {
+                    record(lifecycle, RequestPhase.FIRST_DATA, at - lifecycle[RequestTimingTable.SENT]);
+                }
+                break;
+            }
+            case LOADING_FINISHED: {
+                LoadingFinished finished = event.payloadAs(LoadingFinished.class);
+                long at = toMicros(finished.getTimestamp());
+                if (timingTable.remove(event.key(), RequestTimingTable.EvictionReason.FINISHED, lifecycle)) {
+                    record(lifecycle, RequestPhase.COMPLETE, at - lifecycle[RequestTimingTable.SENT]);
+                    if (lifecycle[RequestTimingTable.HEADERS] != RequestTimingTable.MISSING) {
+                        record(lifecycle, RequestPhase.DOWNLOAD, at - lifecycle[RequestTimingTable.HEADERS]);
+                    }
+                }
+                break;
+            }
+            case LOADING_FAILED: {
+                LoadingFailed failure = event.payloadAs(LoadingFailed.class);
+                long at = toMicros(failure.getTimestamp());
+                if (timingTable.remove(event.key(), RequestTimingTable.EvictionReason.FAILED, lifecycle)) {
+                    record(lifecycle, RequestPhase.FAILED, at - lifecycle[RequestTimingTable.SENT]);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    private void record(long[] lifecycle, RequestPhase phase, long micros) {
+        histogram((int) lifecycle[RequestTimingTable.CATEGORY], phase).record(micros);
+    }
+
+    private LatencyHistogram histogram(int category, RequestPhase phase) {
+        int index = category * PHASES.length + phase.ordinal();
+        LatencyHistogram histogram = histograms.get(index);
+        if (histogram == null) {
+            histograms.compareAndSet(index, null, new LatencyHistogram());
+            histogram = histograms.get(index);
+        }
+        return histogram;
+    }
+
+    /**
+     * Test adımı kategorisi ve aşama bazında gecikme özetlerini al (sadece veri olan kategoriler)
+     */
+    public Map<TestStepType, Map<RequestPhase, LatencySummary>> latencySummaries() {
+        Map<TestStepType, Map<RequestPhase, LatencySummary>> summaries = new EnumMap<>(TestStepType.class);
+        for (TestStepType type : STEP_TYPES) {
+            Map<RequestPhase, LatencySummary> byPhase = new EnumMap<>(RequestPhase.class);
+            for (RequestPhase phase : PHASES) {
+                LatencyHistogram histogram = histograms.get(type.ordinal() * PHASES.length + phase.ordinal());
+                if (histogram != null) {
+                    byPhase.put(phase, histogram.summarize());
+                }
+            }
+            if (!byPhase.isEmpty()) {
+                summaries.put(type, Collections.unmodifiableMap(byPhase));
+            }
+        }
+        return Collections.unmodifiableMap(summaries);
+    }
+
+    /**
+     * Bir aşamanın tüm kategoriler için birleştirilmiş bucket sayıları
+     * İki snapshot arasındaki fark {@link LatencyHistogram#summarize(long[])} ile özetlenebilir
+     */
+    public long[] snapshot(RequestPhase phase) {
+        long[] merged = new long[LatencyHistogram.BUCKET_COUNT];
+        for (TestStepType type : STEP_TYPES) {
+            LatencyHistogram histogram = histograms.get(type.ordinal() * PHASES.length + phase.ordinal());
+            if (histogram != null) {
+                long[] counts = histogram.snapshot();
+                for (int i = 0; i < merged.length; i++) {
+                    merged[i] += counts[i];
+                }
+            }
+        }
+        return merged;
+    }
+    
+    /**
+     * İstek zamanlama tablosunu al
+     */
+    public RequestTimingTable getTimingTable() {
+        return timingTable;
+    }
+
+    /**
+     * CDP monotonic zamanını (saniye) mikrosaniyeye çevirir
+     */
+    public static long toMicros(MonotonicTime timestamp) {
+        return (long) (timestamp.toJson().doubleValue() * 1_000_000);
+    }
+}
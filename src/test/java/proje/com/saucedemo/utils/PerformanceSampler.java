@@ -0,0 +1,225 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.performance.Performance;
+import org.openqa.selenium.devtools.v138.performance.model.Metric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDP Performance.getMetrics örnekleyici - metrikleri sabit aralıkla ve test adımı sınırlarında okur,
+ * {@link MetricTimeSeries} içinde saklar ve adım başına farkları (script, layout, heap, DOM) hesaplar
+ */
+public class PerformanceSampler implements StepListener, AutoCloseable {
+
+    private static final Logger performanceLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Performance");
+
+    // Log satırlarında ve adım özetlerinde gösterilen metrikler
+    private static final String[] SUMMARY_METRICS = {
+            "ScriptDuration", "TaskDuration", "LayoutCount", "LayoutDuration",
+            "RecalcStyleCount", "RecalcStyleDuration", "JSHeapUsedSize", "Nodes"
+    };
+
+    private final DevTools devTools;
+    private final MetricTimeSeries series;
+    private final long intervalMillis;
+    private final List<StepMetrics> stepMetrics = Collections.synchronizedList(new ArrayList<>());
+    private ScheduledExecutorService scheduler;
+    private Map<String, Double> stepStartValues;
+
+    /**
+     * @param capacity Zaman serisinde tutulacak en fazla örnek sayısı
+     * @param intervalMillis Periyodik örnekleme aralığı (0 ise sadece adım sınırlarında örneklenir)
+     */
+    public PerformanceSampler(DevTools devTools, int capacity, long intervalMillis) {
+        this.devTools = devTools;
+        this.series = new MetricTimeSeries(capacity);
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş örnekleyici oluşturur
+     * devtools.performance.capacity, devtools.performance.intervalMs
+     */
+    public static PerformanceSampler fromSystemProperties(DevTools devTools) {
+        return new PerformanceSampler(
+                devTools,
+                Integer.getInteger("devtools.performance.capacity", 3600),
+                Long.getLong("devtools.performance.intervalMs", 1000L));
+    }
+
+    /**
+     * Periyodik örneklemeyi başlatır
+     */
+    public synchronized void start() {
+        if (scheduler != null || intervalMillis <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cdp-performance-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::periodicSample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        performanceLogger.info("[CDP][Performance] Sampling every {}ms", intervalMillis);
+    }
+
+    private void periodicSample() {
+        try {
+            Map<String, Double> values = sample();
+            performanceLogger.debug("[CDP][Performance] Sample {}", format(values));
+        } catch (Exception e) {
+            // Oturum kapanırken veya navigasyon sırasında beklenen durum
+            performanceLogger.debug("[CDP][Performance] Sampling failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Performance.getMetrics ile bir örnek alır ve zaman serisine yazar
+     * @return Metrik adı -> değer
+     */
+    public Map<String, Double> sample() {
+        List<Metric> metrics = devTools.send(Performance.getMetrics());
+        int row = series.startSample(System.currentTimeMillis());
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Metric metric : metrics) {
+            double value = metric.getValue().doubleValue();
+            series.set(row, series.column(metric.getName()), value);
+            values.put(metric.getName(), value);
+        }
+        return values;
+    }
+
+    @Override
+    public void onStepStart(String stepName) {
+        try {
+            stepStartValues = sample();
+        } catch (Exception e) {
+            stepStartValues = null;
+            performanceLogger.warn("[CDP][Performance] Could not sample at start of '{}': {}", stepName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onStepEnd(String stepName, long durationMillis) {
+        if (stepStartValues == null) {
+            return;
+        }
+        try {
+            Map<String, Double> end = sample();
+            Map<String, Double> deltas = new LinkedHashMap<>();
+            end.forEach((name, endValue) -> {
+                Double startValue = stepStartValues.get(name);
+                if (startValue != null) {
+                    deltas.put(name, delta(name, startValue, endValue));
+                }
+            });
+            StepMetrics metrics = new StepMetrics(stepName, durationMillis, Collections.unmodifiableMap(deltas));
+            stepMetrics.add(metrics);
+            performanceLogger.info("[CDP][Performance] Step '{}' ({}ms) {}", stepName, durationMillis, format(deltas));
+        } catch (Exception e) {
+            performanceLogger.warn("[CDP][Performance] Could not sample at end of '{}': {}", stepName, e.getMessage());
+        } finally {
+            stepStartValues = null;
+        }
+    }
+
+    /**
+     * Kümülatif sayaçlar navigasyonda sıfırlanabilir; bu durumda bitiş değeri adımın katkısı kabul edilir
+     * Anlık değerler (heap, node sayısı) için ham fark döner
+     */
+    static double delta(String name, double start, double end) {
+        if (isCumulative(name) && end < start) {
+            return end;
+        }
+        return end - start;
+    }
+
+    private static boolean isCumulative(String name) {
+        return name.endsWith("Count") || name.endsWith("Duration")
+                || name.equals("ThreadTime") || name.equals("ProcessTime");
+    }
+
+    private static String format(Map<String, Double> values) {
+        StringBuilder text = new StringBuilder();
+        for (String name : SUMMARY_METRICS) {
+            Double value = values.get(name);
+            if (value == null) {
+                continue;
+            }
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            if (name.endsWith("Duration")) {
+                text.append(name).append('=').append(String.format("%.1fms", value * 1000));
+            } else if (name.endsWith("Size")) {
+                text.append(name).append('=').append(String.format("%.1fMB", value / (1024 * 1024)));
+            } else {
+                text.append(name).append('=').append(value.longValue());
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Adım bazında metrik farklarını al (tamamlanma sırasıyla)
+     */
+    public List<StepMetrics> getStepMetrics() {
+        synchronized (stepMetrics) {
+            return List.copyOf(stepMetrics);
+        }
+    }
+
+    /**
+     * Ham zaman serisini al
+     */
+    public MetricTimeSeries getSeries() {
+        return series;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        List<StepMetrics> steps = getStepMetrics();
+        if (steps.isEmpty()) {
+            return;
+        }
+        performanceLogger.info("[CDP][Performance] {} samples collected for {} step(s)", series.totalSamples(), steps.size());
+        logRanking(steps, "ScriptDuration");
+        logRanking(steps, "LayoutDuration");
+    }
+
+    private void logRanking(List<StepMetrics> steps, String metric) {
+        steps.stream()
+                .filter(step -> step.deltas().containsKey(metric))
+                .max(Comparator.comparingDouble(step -> step.get(metric)))
+                .ifPresent(step -> performanceLogger.info("[CDP][Performance] Highest {}: '{}' ({})",
+                        metric, step.stepName(), String.format("%.1fms", step.get(metric) * 1000)));
+    }
+
+    /**
+     * Bir test adımının Performance metrik farkları (süreler saniye, boyutlar byte)
+     */
+    public record StepMetrics(String stepName, long durationMillis, Map<String, Double> deltas) {
+
+        /**
+         * Metrik farkı (yoksa 0)
+         */
+        public double get(String metric) {
+            return deltas.getOrDefault(metric, 0.0);
+        }
+    }
+}
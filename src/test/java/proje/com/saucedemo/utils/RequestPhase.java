@@ -0,0 +1,23 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * İstek yaşam döngüsü aşamaları - her biri requestWillBeSent'ten ölçülen bir süredir
+ * (DOWNLOAD hariç: response header'larından loadingFinished'e kadar)
+ */
+public enum RequestPhase {
+
+    /** requestWillBeSent -> responseReceived */
+    HEADERS,
+
+    /** requestWillBeSent -> ilk dataReceived */
+    FIRST_DATA,
+
+    /** responseReceived -> loadingFinished */
+    DOWNLOAD,
+
+    /** requestWillBeSent -> loadingFinished */
+    COMPLETE,
+
+    /** requestWillBeSent -> loadingFailed */
+    FAILED
+}
@@ -0,0 +1,324 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Sabit kapasiteli, süresi dolan istek zamanlama tablosu
+ * CDP requestId'nin 64-bit hash'i ile anahtarlanan açık adresleme (linear probing) tablosu;
+ * zaman damgaları primitive long kolonlarda tutulur, boxing yapılmaz ve bellek kullanımı sabittir
+ * Her kayıt isteğin yaşam döngüsünü taşır: gönderim, response header'ları, ilk veri (CDP monotonic
+ * zamanı, mikrosaniye) ve test adımı kategorisi
+ * Kayıtlar loadingFinished/loadingFailed ile, TTL dolunca veya kapasite aşılınca tahliye edilir
+ */
+public final class RequestTimingTable {
+
+    /**
+     * Anahtar bulunamadığında veya aşama henüz gerçekleşmediğinde dönen değer
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    // remove(...) çıktı dizisindeki indeksler
+    public static final int SENT = 0;
+    public static final int HEADERS = 1;
+    public static final int FIRST_DATA = 2;
+    public static final int CATEGORY = 3;
+
+    /**
+     * Tahliye nedenleri
+     */
+    public enum EvictionReason {
+        FINISHED,
+        FAILED,
+        EXPIRED,
+        OVERFLOW
+    }
+
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final long[] keys;
+    private final long[] insertedAt;
+    private final long[] sentMicros;
+    private final long[] headersMicros;
+    private final long[] firstDataMicros;
+    private final int[] categories;
+    private final int mask;
+    private final int maxSize;
+    private final long ttlMillis;
+    private int size;
+    private int putsSinceSweep;
+
+    private final long[] evictions = new long[EvictionReason.values().length];
+
+    /**
+     * @param requestedCapacity Tablo kapasitesi (2'nin kuvvetine yuvarlanır)
+     * @param ttlMillis Bir kaydın tahliye edilmeden önce tabloda kalabileceği en uzun süre
+     */
+    public RequestTimingTable(int requestedCapacity, long ttlMillis) {
+        int capacity = Integer.highestOneBit(Math.max(16, requestedCapacity - 1)) << 1;
+        this.keys = new long[capacity];
+        this.insertedAt = new long[capacity];
+        this.sentMicros = new long[capacity];
+        this.headersMicros = new long[capacity];
+        this.firstDataMicros = new long[capacity];
+        this.categories = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = capacity - (capacity >>> 2);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş tablo oluşturur
+     * devtools.timings.capacity, devtools.timings.ttlSeconds
+     */
+    public static RequestTimingTable fromSystemProperties() {
+        return new RequestTimingTable(
+                Integer.getInteger("devtools.timings.capacity", 4096),
+                Integer.getInteger("devtools.timings.ttlSeconds", 120) * 1000L);
+    }
+
+    /**
+     * İsteğin gönderimini kaydeder
+     * Aynı requestId tekrar gelirse (redirect) kayıt yeni hop için sıfırlanır
+     * @param nowMillis TTL için duvar saati zamanı
+     * @param sentAtMicros CDP requestWillBeSent zamanı (monotonic, mikrosaniye)
+     * @param category Test adımı kategorisi (TestStepType ordinal)
+     */
+    public synchronized void put(String requestId, long nowMillis, long sentAtMicros, int category) {
+        long key = hash(requestId);
+
+        if (++putsSinceSweep >= SWEEP_INTERVAL) {
+            putsSinceSweep = 0;
+            expire(nowMillis);
+        }
+
+        int slot = find(key);
+        if (slot < 0) {
+            if (size >= maxSize) {
+                if (expire(nowMillis) == 0) {
+                    evictOldest();
+                }
+            }
+            slot = home(key);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        insertedAt[slot] = nowMillis;
+        sentMicros[slot] = sentAtMicros;
+        headersMicros[slot] = MISSING;
+        firstDataMicros[slot] = MISSING;
+        categories[slot] = category;
+    }
+
+    /**
+     * Response header'larının geldiği zamanı kaydeder
+     * @param lifecycle SENT ve CATEGORY değerlerinin yazılacağı dizi
+     * @return Kayıt var ve bu ilk response ise true
+     */
+    public synchronized boolean markHeaders(String requestId, long atMicros, long[] lifecycle) {
+        int slot = find(hash(requestId));
+        if (slot < 0 || headersMicros[slot] != MISSING) {
+            return false;
+        }
+        headersMicros[slot] = atMicros;
+        lifecycle[SENT] = sentMicros[slot];
+        lifecycle[CATEGORY] = categories[slot];
+        return true;
+    }
+
+    /**
+     * İlk dataReceived zamanını kaydeder
+     * @param lifecycle SENT ve CATEGORY değerlerinin yazılacağı dizi
+     * @return Kayıt var ve bu ilk veri ise true
+     */
+    public synchronized boolean markFirstData(String requestId, long atMicros, long[] lifecycle) {
+        int slot = find(hash(requestId));
+        if (slot < 0 || firstDataMicros[slot] != MISSING) {
+            return false;
+        }
+        firstDataMicros[slot] = atMicros;
+        lifecycle[SENT] = sentMicros[slot];
+        lifecycle[CATEGORY] = categories[slot];
+        return true;
+    }
+
+    /**
+     * İsteğin gönderim zamanını döndürür; yoksa {@link #MISSING}
+     */
+    public synchronized long getSentMicros(String requestId) {
+        int slot = find(hash(requestId));
+        return slot >= 0 ? sentMicros[slot] : MISSING;
+    }
+
+    /**
+     * İsteğin kategorisini döndürür; yoksa -1
+     */
+    public synchronized int getCategory(String requestId) {
+        int slot = find(hash(requestId));
+        return slot >= 0 ? categories[slot] : -1;
+    }
+
+    /**
+     * Kaydı tahliye eder ve yaşam döngüsü zamanlarını çağıranın dizisine yazar (nesne oluşturmaz)
+     * @param lifecycle En az 4 elemanlı dizi: SENT, HEADERS, FIRST_DATA, CATEGORY
+     * @return Kayıt bulunduysa true
+     */
+    public synchronized boolean remove(String requestId, EvictionReason reason, long[] lifecycle) {
+        int slot = find(hash(requestId));
+        if (slot < 0) {
+            return false;
+        }
+        lifecycle[SENT] = sentMicros[slot];
+        lifecycle[HEADERS] = headersMicros[slot];
+        lifecycle[FIRST_DATA] = firstDataMicros[slot];
+        lifecycle[CATEGORY] = categories[slot];
+        deleteSlot(slot);
+        evictions[reason.ordinal()]++;
+        return true;
+    }
+
+    /**
+     * TTL'i dolmuş tüm kayıtları tahliye eder
+     * @return Tahliye edilen kayıt sayısı
+     */
+    public synchronized int expire(long nowMillis) {
+        long cutoff = nowMillis - ttlMillis;
+        int expired = 0;
+        int index = 0;
+        while (index <= mask) {
+            if (keys[index] != 0 && insertedAt[index] < cutoff) {
+                // Backward-shift silme sonrası aynı slot tekrar kontrol edilir
+                deleteSlot(index);
+                expired++;
+            } else {
+                index++;
+            }
+        }
+        evictions[EvictionReason.EXPIRED.ordinal()] += expired;
+        return expired;
+    }
+
+    /**
+     * TTL'i dolmuş kayıtları tahliye eder ve son maxAgeMillis içinde eklenmiş bekleyen kayıtları sayar
+     */
+    public synchronized int countPending(long nowMillis, long maxAgeMillis) {
+        expire(nowMillis);
+        long cutoff = nowMillis - maxAgeMillis;
+        int pending = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (keys[i] != 0 && insertedAt[i] >= cutoff) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Tablodaki (bekleyen) kayıt sayısı
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Tablo istatistiklerini al
+     */
+    public synchronized Stats getStats() {
+        return new Stats(
+                size,
+                mask + 1,
+                evictions[EvictionReason.FINISHED.ordinal()],
+                evictions[EvictionReason.FAILED.ordinal()],
+                evictions[EvictionReason.EXPIRED.ordinal()],
+                evictions[EvictionReason.OVERFLOW.ordinal()]);
+    }
+
+    private int find(long key) {
+        int index = home(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int home(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    /**
+     * Linear probing için backward-shift silme - tombstone bırakmaz
+     */
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        int index = slot;
+        while (true) {
+            index = (index + 1) & mask;
+            long key = keys[index];
+            if (key == 0) {
+                break;
+            }
+            int home = home(key);
+            boolean stays = hole <= index
+                    ? hole < home && home <= index
+                    : hole < home || home <= index;
+            if (!stays) {
+                keys[hole] = key;
+                insertedAt[hole] = insertedAt[index];
+                sentMicros[hole] = sentMicros[index];
+                headersMicros[hole] = headersMicros[index];
+                firstDataMicros[hole] = firstDataMicros[index];
+                categories[hole] = categories[index];
+                hole = index;
+            }
+        }
+        keys[hole] = 0;
+        size--;
+    }
+
+    /**
+     * Tablo dolu ve süresi dolmuş kayıt yoksa en eski kaydı tahliye eder
+     */
+    private void evictOldest() {
+        int oldest = -1;
+        for (int i = 0; i <= mask; i++) {
+            if (keys[i] != 0 && (oldest < 0 || insertedAt[i] < insertedAt[oldest])) {
+                oldest = i;
+            }
+        }
+        if (oldest >= 0) {
+            deleteSlot(oldest);
+            evictions[EvictionReason.OVERFLOW.ordinal()]++;
+        }
+    }
+
+    /**
+     * requestId için 64-bit FNV-1a hash (0 boş slot için ayrılmıştır)
+     */
+    static long hash(String requestId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0, n = requestId.length(); i < n; i++) {
+            hash ^= requestId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // fmix64 - dağılımı iyileştir
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Tablo istatistikleri
+     */
+    public record Stats(int pending, int capacity, long finished, long failed, long expired, long overflow) {
+
+        @Override
+        public String toString() {
+            return String.format("TimingTable{pending=%d/%d, finished=%d, failed=%d, expired=%d, overflow=%d}",
+                    pending, capacity, finished, failed, expired, overflow);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.fetch.Fetch;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestPaused;
+import org.openqa.selenium.devtools.v138.fetch.model.RequestStage;
+import org.openqa.selenium.devtools.v138.network.model.ErrorReason;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.network.model.ResourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BlockingProfile} uygulayan Fetch işleyicisi - eşleşen istekleri Fetch.failRequest(BlockedByClient) ile keser
+ * Bloklanan byte miktarı, bloklamasız koşularda gözlemlenen URL boyutlarından (observed-sizes.properties) tahmin edilir
+ * Adım başına bloklanan istek ve byte sayıları loglanır
+ */
+public class ResourceBlocker implements FetchHandler, CdpEventSink, StepListener, AutoCloseable {
+
+    private static final Logger networkLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Network");
+
+    private static final int MAX_TRACKED = 20_000;
+
+    private final BlockingProfile profile;
+    private final List<Pattern> urlPatterns;
+    private final Path sizesFile;
+
+    // URL -> son gözlemlenen encoded boyut (önceki koşulardan ve bu koşudan)
+    private final Map<String, Long> observedSizes = new ConcurrentHashMap<>();
+    // Tamamlanmamış istekler: requestId -> URL
+    private final Map<String, String> inFlight = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_TRACKED;
+        }
+    });
+
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong blockedBytes = new AtomicLong();
+    private final AtomicLong unknownSize = new AtomicLong();
+    private final List<StepBlockingStats> stepStats = Collections.synchronizedList(new ArrayList<>());
+    private long[] stepStart = new long[3];
+
+    public ResourceBlocker(BlockingProfile profile, Path sizesFile) {
+        this.profile = profile;
+        this.urlPatterns = profile.compiledUrlPatterns();
+        this.sizesFile = sizesFile;
+        loadObservedSizes();
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş bloklayıcı oluşturur
+     * devtools.blocking.sizesFile
+     */
+    public static ResourceBlocker fromSystemProperties(BlockingProfile profile) {
+        return new ResourceBlocker(profile,
+                Paths.get(System.getProperty("devtools.blocking.sizesFile", "target/blocking/observed-sizes.properties")));
+    }
+
+    public BlockingProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public List<RequestPattern> patterns() {
+        List<RequestPattern> patterns = new ArrayList<>();
+        for (ResourceType type : profile.resourceTypes()) {
+            patterns.add(new RequestPattern(Optional.of("*"), Optional.of(type), Optional.of(RequestStage.REQUEST)));
+        }
+        for (String urlPattern : profile.urlPatterns()) {
+            patterns.add(new RequestPattern(Optional.of(urlPattern), Optional.empty(), Optional.of(RequestStage.REQUEST)));
+        }
+        return patterns;
+    }
+
+    @Override
+    public boolean onRequestPaused(RequestPaused event, DevTools devTools) {
+        if (event.getResponseStatusCode().isPresent() || !matches(event.getResourceType(), event.getRequest().getUrl())) {
+            return false;
+        }
+        devTools.send(Fetch.failRequest(event.getRequestId(), ErrorReason.BLOCKEDBYCLIENT));
+
+        blockedRequests.incrementAndGet();
+        Long size = observedSizes.get(event.getRequest().getUrl());
+        if (size != null) {
+            blockedBytes.addAndGet(size);
+        } else {
+            unknownSize.incrementAndGet();
+        }
+        return true;
+    }
+
+    private boolean matches(ResourceType type, String url) {
+        if (profile.resourceTypes().contains(type)) {
+            return true;
+        }
+        for (Pattern pattern : urlPatterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tamamlanan isteklerin boyutlarını sonraki koşulardaki tahminler için kaydeder
+     */
+    @Override
+    public void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case REQUEST_WILL_BE_SENT:
+                inFlight.put(event.key(), event.payloadAs(RequestWillBeSent.class).getRequest().getUrl());
+                break;
+            case LOADING_FINISHED: {
+                String url = inFlight.remove(event.key());
+                if (url != null && (observedSizes.size() < MAX_TRACKED || observedSizes.containsKey(url))) {
+                    observedSizes.put(url, event.payloadAs(LoadingFinished.class).getEncodedDataLength().longValue());
+                }
+                break;
+            }
+            case LOADING_FAILED:
+                inFlight.remove(event.key());
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onStepStart(String stepName) {
+        stepStart = new long[] {blockedRequests.get(), blockedBytes.get(), unknownSize.get()};
+    }
+
+    @Override
+    public void onStepEnd(String stepName, long durationMillis) {
+        StepBlockingStats stats = new StepBlockingStats(
+                stepName,
+                profile.name(),
+                blockedRequests.get() - stepStart[0],
+                blockedBytes.get() - stepStart[1],
+                unknownSize.get() - stepStart[2]);
+        stepStats.add(stats);
+        networkLogger.info("[CDP][Blocking] {}", stats);
+    }
+
+    /**
+     * Adım bazında bloklama istatistiklerini al
+     */
+    public List<StepBlockingStats> getStepStats() {
+        synchronized (stepStats) {
+            return List.copyOf(stepStats);
+        }
+    }
+
+    private void loadObservedSizes() {
+        if (!Files.exists(sizesFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(sizesFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            properties.forEach((url, size) -> observedSizes.put((String) url, Long.parseLong((String) size)));
+        } catch (IOException | NumberFormatException e) {
+            networkLogger.warn("[CDP][Blocking] Ignoring unreadable size catalog {}: {}", sizesFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Gözlemlenen boyutları diske yazar
+     */
+    @Override
+    public void close() {
+        Properties properties = new Properties();
+        observedSizes.forEach((url, size) -> properties.setProperty(url, Long.toString(size)));
+        try {
+            Files.createDirectories(sizesFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(sizesFile, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Observed encoded response sizes used to estimate blocked bytes");
+            }
+        } catch (IOException e) {
+            networkLogger.warn("[CDP][Blocking] Could not save size catalog {}: {}", sizesFile, e.getMessage());
+        }
+        networkLogger.info("[CDP][Blocking] Profile '{}' blocked {} requests (~{}KB, {} of unknown size)",
+                profile.name(), blockedRequests.get(), blockedBytes.get() / 1024, unknownSize.get());
+    }
+
+    /**
+     * Bir test adımında profilin engellediği istekler
+     */
+    public record StepBlockingStats(String stepName, String profile, long blockedRequests, long blockedBytes,
+                                    long unknownSizeRequests) {
+
+        @Override
+        public String toString() {
+            return String.format("Step '%s' profile=%s blocked=%d requests (~%dKB avoided, %d of unknown size)",
+                    stepName, profile, blockedRequests, blockedBytes / 1024, unknownSizeRequests);
+        }
+    }
+}
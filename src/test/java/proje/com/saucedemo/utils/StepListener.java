@@ -0,0 +1,21 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Test adımı sınırlarında çağrılan dinleyici
+ * DevToolsHelper.beginStep/endStep çağrıldığında test thread'inde, kayıt sırasıyla çalışır
+ */
+public interface StepListener {
+
+    /**
+     * Adım başlarken çağrılır
+     */
+    default void onStepStart(String stepName) {
+    }
+
+    /**
+     * Adım biterken çağrılır
+     * @param durationMillis Adımın süresi
+     */
+    default void onStepEnd(String stepName, long durationMillis) {
+    }
+}
@@ -0,0 +1,19 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Bir adımın bütçe doğrulamasında kullanılan ölçümleri
+ * Ölçülemeyen değerler NaN'dır ve bütçe kontrolünde atlanır
+ * @param p95LatencyMillis Adımdaki isteklerin tamamlanma süresi p95 değeri
+ * @param lcpMillis Adım içindeki navigasyonların en büyük LCP değeri
+ * @param jsHeapGrowthBytes Adım başından ölçüm anına kadar kullanılan JS heap farkı
+ */
+public record StepPerformance(String stepName, long requests, long encodedBytes, double p95LatencyMillis,
+                              double lcpMillis, double jsHeapGrowthBytes) {
+
+    @Override
+    public String toString() {
+        return String.format("Step '%s': requests=%d, transferred=%dKB, p95=%.0fms, LCP=%.0fms, heapGrowth=%.1fMB",
+                stepName, requests, encodedBytes / 1024, p95LatencyMillis, lcpMillis,
+                jsHeapGrowthBytes / (1024.0 * 1024.0));
+    }
+}
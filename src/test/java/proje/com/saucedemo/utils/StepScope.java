@@ -0,0 +1,109 @@
+package proje.com.saucedemo.utils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Adım kapsamlı network istatistikleri - açılışta tüm sayaçların snapshot'ını alır, kapanışta farkı raporlar
+ * <pre>
+ * try (StepScope step = devToolsHelper.step("checkout")) {
+ *     ...
+ * }
+ * </pre>
+ */
+public class StepScope implements AutoCloseable {
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final String name;
+    private final Supplier<NetworkCounters.Snapshot> snapshots;
+    private final Consumer<Delta> onClose;
+    private final NetworkCounters.Snapshot start;
+    private Delta result;
+
+    /**
+     * @param snapshots Olay hattını boşaltıp güncel snapshot'ı döndüren kaynak
+     * @param onClose Kapanışta hesaplanan farkı alan tüketici (loglama vb.)
+     */
+    public StepScope(String name, Supplier<NetworkCounters.Snapshot> snapshots, Consumer<Delta> onClose) {
+        this.name = name;
+        this.snapshots = snapshots;
+        this.onClose = onClose;
+        this.start = snapshots.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Kapsam açıldığından bu yana farkı hesaplar; kapsam kapandıysa kapanıştaki farkı döndürür
+     */
+    public Delta delta() {
+        return result != null ? result : between(name, start, snapshots.get());
+    }
+
+    /**
+     * Farkı sabitler ve tüketiciye iletir
+     */
+    @Override
+    public void close() {
+        if (result != null) {
+            return;
+        }
+        result = between(name, start, snapshots.get());
+        onClose.accept(result);
+    }
+
+    /**
+     * İki snapshot arasındaki fark; histogramlar kova bazında çıkarılıp yeniden özetlenir
+     */
+    static Delta between(String name, NetworkCounters.Snapshot from, NetworkCounters.Snapshot to) {
+        Map<RequestPhase, LatencySummary> latency = new EnumMap<>(RequestPhase.class);
+        for (RequestPhase phase : PHASES) {
+            long[] after = to.phaseBuckets()[phase.ordinal()];
+            long[] before = from.phaseBuckets()[phase.ordinal()];
+            long[] difference = new long[after.length];
+            for (int i = 0; i < after.length; i++) {
+                difference[i] = after[i] - (i < before.length ? before[i] : 0);
+            }
+            LatencySummary summary = LatencyHistogram.summarize(difference);
+            if (summary.count() > 0) {
+                latency.put(phase, summary);
+            }
+        }
+        return new Delta(
+                name,
+                to.capturedAtMillis() - from.capturedAtMillis(),
+                to.requests() - from.requests(),
+                to.responses() - from.responses(),
+                to.finished() - from.finished(),
+                to.failures() - from.failures(),
+                to.encodedBytes() - from.encodedBytes(),
+                Collections.unmodifiableMap(latency));
+    }
+
+    /**
+     * Bir adımın kendi network istatistikleri
+     */
+    public record Delta(String name, long durationMillis, long requests, long responses, long finished,
+                        long failures, long encodedBytes, Map<RequestPhase, LatencySummary> latency) {
+
+        /**
+         * Aşama gecikme özeti (veri yoksa boş özet)
+         */
+        public LatencySummary latency(RequestPhase phase) {
+            return latency.getOrDefault(phase, LatencySummary.EMPTY);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Step '%s' (%dms): requests=%d, responses=%d, finished=%d, failed=%d, transferred=%dKB, complete[%s]",
+                    name, durationMillis, requests, responses, finished, failures, encodedBytes / 1024,
+                    latency(RequestPhase.COMPLETE));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package proje.com.saucedemo.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Adım bazında süre ve istek gecikmesi raporu - her adım, koşunun emülasyon koşullarıyla birlikte
+ * CSV dosyasına eklenir; farklı profillerle yapılan koşular aynı dosyada karşılaştırılabilir
+ */
+public class StepTimingReport implements StepListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepTimingReport.class);
+
+    private static final String HEADER = "timestamp,network_profile,cpu_rate,step,duration_ms,requests,p50_ms,p95_ms,max_ms,script_ms,task_ms";
+
+    private final Path file;
+    private final NetworkLifecycleTracker tracker;
+    private volatile String networkProfile = NetworkConditions.NONE.name();
+    private volatile double cpuThrottlingRate = 1;
+    private volatile PerformanceSampler performanceSampler;
+    private long[] stepStartBuckets;
+
+    public StepTimingReport(Path file, NetworkLifecycleTracker tracker) {
+        this.file = file;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş rapor oluşturur
+     * devtools.report.stepTimings
+     */
+    public static StepTimingReport fromSystemProperties(NetworkLifecycleTracker tracker) {
+        return new StepTimingReport(
+                Paths.get(System.getProperty("devtools.report.stepTimings", "target/reports/step-timings.csv")),
+                tracker);
+    }
+
+    /**
+     * Raporlanacak network profilini ayarlar
+     */
+    public void setNetworkProfile(String networkProfile) {
+        this.networkProfile = networkProfile;
+    }
+
+    /**
+     * Raporlanacak CPU yavaşlatma oranını ayarlar
+     */
+    public void setCpuThrottlingRate(double cpuThrottlingRate) {
+        this.cpuThrottlingRate = cpuThrottlingRate;
+    }
+
+    /**
+     * Adım başına script/task sürelerinin okunacağı örnekleyiciyi ayarlar
+     * Örnekleyici bu rapordan önce adım dinleyicisi olarak kayıtlı olmalıdır
+     */
+    public void setPerformanceSampler(PerformanceSampler performanceSampler) {
+        this.performanceSampler = performanceSampler;
+    }
+
+    @Override
+    public void onStepStart(String stepName) {
+        stepStartBuckets = tracker.snapshot(RequestPhase.COMPLETE);
+    }
+
+    @Override
+    public void onStepEnd(String stepName, long durationMillis) {
+        long[] end = tracker.snapshot(RequestPhase.COMPLETE);
+        if (stepStartBuckets != null) {
+            for (int i = 0; i < end.length; i++) {
+                end[i] -= stepStartBuckets[i];
+            }
+        }
+        LatencySummary latency = LatencyHistogram.summarize(end);
+        PerformanceSampler.StepMetrics metrics = stepMetrics(stepName);
+        String scriptMillis = metrics != null ? String.format(Locale.ROOT, "%.1f", metrics.get("ScriptDuration") * 1000) : "";
+        String taskMillis = metrics != null ? String.format(Locale.ROOT, "%.1f", metrics.get("TaskDuration") * 1000) : "";
+
+        String line = String.format(Locale.ROOT, "%s,%s,%.1f,%s,%d,%d,%.1f,%.1f,%.1f,%s,%s",
+                Instant.now(), csv(networkProfile), cpuThrottlingRate, csv(stepName), durationMillis, latency.count(),
+                latency.p50Millis(), latency.p95Millis(), latency.maxMillis(), scriptMillis, taskMillis);
+        append(line);
+        logger.info("[STEP] '{}' on {} network, {}x CPU: {}ms, script {}ms, task {}ms, requests {}",
+                stepName, networkProfile, cpuThrottlingRate, durationMillis, scriptMillis, taskMillis, latency);
+    }
+
+    private PerformanceSampler.StepMetrics stepMetrics(String stepName) {
+        PerformanceSampler sampler = performanceSampler;
+        if (sampler == null) {
+            return null;
+        }
+        List<PerformanceSampler.StepMetrics> steps = sampler.getStepMetrics();
+        if (steps.isEmpty()) {
+            return null;
+        }
+        PerformanceSampler.StepMetrics last = steps.get(steps.size() - 1);
+        return last.stepName().equals(stepName) ? last : null;
+    }
+
+    private synchronized void append(String line) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            boolean newFile = !Files.exists(file);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (newFile) {
+                    writer.write(HEADER);
+                    writer.write(System.lineSeparator());
+                }
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write step timing report {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,64 @@
+package proje.com.saucedemo.utils;
+
+/**
+ * Test adımı istek kategorileri - DevTools network loglarında ve istatistiklerinde kullanılır
+ * Her kategori log satırlarında görünen etiketi taşır
+ */
+public enum TestStepType {
+
+    // Sayfa navigasyonları (GET)
+    AUTH_PAGE("🔐 AUTH_PAGE"),
+    PRODUCTS_PAGE("🛍️ PRODUCTS_PAGE"),
+    CART_PAGE("🛒 CART_PAGE"),
+    CHECKOUT_PAGE("💳 CHECKOUT_PAGE"),
+    PAYMENT_PAGE("💸 PAYMENT_PAGE"),
+    PRODUCT_DETAIL("📦 PRODUCT_DETAIL"),
+    HOME_PAGE("🏠 HOME_PAGE"),
+    CONTACT_PAGE("📞 CONTACT_PAGE"),
+    ABOUT_PAGE("ℹ️ ABOUT_PAGE"),
+    CATEGORY_PAGE("📂 CATEGORY_PAGE"),
+    BRAND_PAGE("🏷️ BRAND_PAGE"),
+
+    // Form gönderimleri (POST)
+    SIGNUP_SUBMIT("✅ SIGNUP_SUBMIT"),
+    LOGIN_SUBMIT("✅ LOGIN_SUBMIT"),
+    ADD_TO_CART("✅ ADD_TO_CART"),
+    REMOVE_FROM_CART("✅ REMOVE_FROM_CART"),
+    UPDATE_CART("✅ UPDATE_CART"),
+    CHECKOUT_SUBMIT("✅ CHECKOUT_SUBMIT"),
+    PAYMENT_SUBMIT("✅ PAYMENT_SUBMIT"),
+    ORDER_SUBMIT("✅ ORDER_SUBMIT"),
+    SUBSCRIBE("✅ SUBSCRIBE"),
+    CONTACT_SUBMIT("✅ CONTACT_SUBMIT"),
+    NEWSLETTER_SUBSCRIBE("✅ NEWSLETTER_SUBSCRIBE"),
+    SEARCH_SUBMIT("🔍 SEARCH_SUBMIT"),
+
+    // Diğer metodlar
+    UPDATE_ACTION("🔄 UPDATE_ACTION"),
+    DELETE_ACTION("🗑️ DELETE_ACTION"),
+    PATCH_ACTION("🔧 PATCH_ACTION"),
+
+    PAGE_LOAD("📄 PAGE_LOAD"),
+
+    // Test adımı olmayan istekler (statik kaynaklar, analytics, üçüncü taraf)
+    OTHER("🌐 OTHER"),
+    UNKNOWN("Unknown");
+
+    private final String label;
+
+    TestStepType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Log satırlarında kullanılan etiketi döndürür
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,269 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v138.io.IO;
+import org.openqa.selenium.devtools.v138.io.model.StreamHandle;
+import org.openqa.selenium.devtools.v138.tracing.Tracing;
+import org.openqa.selenium.devtools.v138.tracing.model.StreamFormat;
+import org.openqa.selenium.devtools.v138.tracing.model.TraceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test adımları için Chrome trace kaydedici
+ * Tracing.start transferMode=ReturnAsStream ile başlatılır; trace tarayıcıda tutulur ve adım sonunda
+ * IO.read ile parça parça doğrudan dosyaya kopyalanır, heap'te sadece bir parça bulunur
+ * AUTO modunda sadece önceki koşuda eşik süresini aşan adımlar trace edilir
+ */
+public class TraceRecorder implements StepListener {
+
+    private static final Logger performanceLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Performance");
+
+    private static final List<String> CATEGORIES = List.of(
+            "devtools.timeline",
+            "disabled-by-default-devtools.timeline",
+            "disabled-by-default-devtools.timeline.frame",
+            "disabled-by-default-devtools.timeline.stack",
+            "disabled-by-default-v8.cpu_profiler",
+            "v8.execute",
+            "blink.user_timing",
+            "loading",
+            "latencyInfo",
+            "toplevel");
+
+    /**
+     * Trace modu
+     */
+    public enum Mode {
+        OFF,
+        AUTO,
+        ALWAYS
+    }
+
+    private final DevTools devTools;
+    private final Mode mode;
+    private final long thresholdMillis;
+    private final Path directory;
+    private final String runLabel;
+    private final int chunkSize;
+    private final Map<String, Long> previousDurations;
+
+    private volatile CompletableFuture<Optional<StreamHandle>> completion;
+    private String tracingStep;
+
+    /**
+     * @param runLabel Dosya adına eklenen koşu etiketi (network profili ve CPU oranı), matris koşuları birbirini ezmesin
+     * @param previousDurations AUTO modunda önceki koşudaki adım süreleri (adım adı -> ms)
+     */
+    public TraceRecorder(DevTools devTools, Mode mode, long thresholdMillis, Path directory, String runLabel,
+                         int chunkSize, Map<String, Long> previousDurations) {
+        this.devTools = devTools;
+        this.mode = mode;
+        this.thresholdMillis = thresholdMillis;
+        this.directory = directory;
+        this.runLabel = runLabel;
+        this.chunkSize = chunkSize;
+        this.previousDurations = previousDurations;
+
+        devTools.addListener(Tracing.tracingComplete(), complete -> {
+            CompletableFuture<Optional<StreamHandle>> pending = completion;
+            if (pending != null) {
+                pending.complete(complete.getStream());
+            }
+        });
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş kaydedici oluşturur
+     * devtools.tracing.mode (OFF/AUTO/ALWAYS), devtools.tracing.thresholdMs, devtools.tracing.dir,
+     * devtools.tracing.chunkSize; AUTO modu önceki süreleri devtools.report.stepTimings dosyasından okur
+     * @param networkProfile Aktif network profili - sadece aynı profille ölçülmüş önceki süreler kullanılır
+     * @param cpuThrottlingRate Aktif CPU yavaşlatma oranı - sadece aynı oranla ölçülmüş önceki süreler kullanılır
+     */
+    public static TraceRecorder fromSystemProperties(DevTools devTools, String networkProfile, double cpuThrottlingRate) {
+        Path stepTimings = Paths.get(System.getProperty("devtools.report.stepTimings", "target/reports/step-timings.csv"));
+        return new TraceRecorder(
+                devTools,
+                Mode.valueOf(System.getProperty("devtools.tracing.mode", "OFF").toUpperCase(Locale.ROOT)),
+                Long.getLong("devtools.tracing.thresholdMs", 10_000L),
+                Paths.get(System.getProperty("devtools.tracing.dir", "target/traces")),
+                String.format(Locale.ROOT, "%s_cpu%.1fx", networkProfile, cpuThrottlingRate),
+                Integer.getInteger("devtools.tracing.chunkSize", 1024 * 1024),
+                loadPreviousDurations(stepTimings, networkProfile, cpuThrottlingRate));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void onStepStart(String stepName) {
+        if (!shouldTrace(stepName)) {
+            return;
+        }
+        try {
+            TraceConfig traceConfig = new TraceConfig(Optional.of(TraceConfig.RecordMode.RECORDUNTILFULL),
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(CATEGORIES),
+                    Optional.empty(), Optional.empty(), Optional.empty());
+            devTools.send(Tracing.start(Optional.empty(), Optional.empty(), Optional.empty(),
+                    Optional.of(Tracing.StartTransferMode.RETURNASSTREAM), Optional.of(StreamFormat.JSON),
+                    Optional.empty(), Optional.of(traceConfig), Optional.empty(), Optional.empty()));
+            tracingStep = stepName;
+            performanceLogger.info("[CDP][Tracing] Tracing step '{}'", stepName);
+        } catch (Exception e) {
+            performanceLogger.warn("[CDP][Tracing] Could not start tracing for '{}': {}", stepName, e.getMessage());
+        }
+    }
+
+    private boolean shouldTrace(String stepName) {
+        switch (mode) {
+            case ALWAYS:
+                return true;
+            case AUTO:
+                Long previous = previousDurations.get(stepName);
+                return previous != null && previous >= thresholdMillis;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void onStepEnd(String stepName, long durationMillis) {
+        if (tracingStep == null) {
+            if (mode == Mode.AUTO && durationMillis >= thresholdMillis) {
+                performanceLogger.info("[CDP][Tracing] Step '{}' took {}ms (threshold {}ms), it will be traced on the next run with the same profile",
+                        stepName, durationMillis, thresholdMillis);
+            }
+            return;
+        }
+        tracingStep = null;
+
+        completion = new CompletableFuture<>();
+        try {
+            devTools.send(Tracing.end());
+            Optional<StreamHandle> stream = completion.get(60, TimeUnit.SECONDS);
+            if (stream.isEmpty()) {
+                performanceLogger.warn("[CDP][Tracing] No trace stream returned for '{}'", stepName);
+                return;
+            }
+            Path file = directory.resolve((stepName + "_" + runLabel).replaceAll("[^A-Za-z0-9._-]+", "_") + ".json");
+            long bytes = copy(stream.get(), file);
+            performanceLogger.info("[CDP][Tracing] Trace for '{}' ({}ms) written to {} ({}KB)",
+                    stepName, durationMillis, file, bytes / 1024);
+        } catch (Exception e) {
+            performanceLogger.warn("[CDP][Tracing] Could not collect trace for '{}': {}", stepName, e.getMessage());
+        } finally {
+            completion = null;
+        }
+    }
+
+    /**
+     * Trace stream'ini IO.read ile parça parça dosyaya kopyalar ve stream'i kapatır
+     * @return Yazılan byte sayısı
+     */
+    private long copy(StreamHandle handle, Path file) throws IOException {
+        Files.createDirectories(directory);
+        long written = 0;
+        try (OutputStream output = Files.newOutputStream(file)) {
+            while (true) {
+                IO.ReadResponse chunk = devTools.send(IO.read(handle, Optional.empty(), Optional.of(chunkSize)));
+                byte[] bytes = chunk.getBase64Encoded().orElse(false)
+                        ? Base64.getDecoder().decode(chunk.getData())
+                        : chunk.getData().getBytes(StandardCharsets.UTF_8);
+                output.write(bytes);
+                written += bytes.length;
+                if (chunk.getEof()) {
+                    break;
+                }
+            }
+        } finally {
+            devTools.send(IO.close(handle));
+        }
+        return written;
+    }
+
+    /**
+     * Adım süresi CSV raporundan, aynı network profili ve CPU oranıyla ölçülmüş her adımın son süresini okur
+     * Matris koşularında yavaşlatılmış bir adımın süresi yavaşlatılmamış koşunun trace kararını (veya tersi) etkilemez
+     */
+    static Map<String, Long> loadPreviousDurations(Path stepTimings, String networkProfile, double cpuThrottlingRate) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.exists(stepTimings)) {
+            return durations;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(stepTimings, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return durations;
+            }
+            List<String> columns = Arrays.asList(header.split(","));
+            int stepColumn = columns.indexOf("step");
+            int durationColumn = columns.indexOf("duration_ms");
+            int profileColumn = columns.indexOf("network_profile");
+            int cpuColumn = columns.indexOf("cpu_rate");
+            if (stepColumn < 0 || durationColumn < 0 || profileColumn < 0 || cpuColumn < 0) {
+                return durations;
+            }
+            int lastColumn = Math.max(Math.max(stepColumn, durationColumn), Math.max(profileColumn, cpuColumn));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> values = splitCsv(line);
+                if (values.size() > lastColumn
+                        && networkProfile.equals(values.get(profileColumn))
+                        // CSV oranı bir ondalık basamakla yazar
+                        && Math.abs(Double.parseDouble(values.get(cpuColumn)) - cpuThrottlingRate) < 0.05) {
+                    durations.put(values.get(stepColumn), Long.parseLong(values.get(durationColumn)));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            performanceLogger.warn("[CDP][Tracing] Could not read previous step durations from {}: {}", stepTimings, e.getMessage());
+        }
+        return durations;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
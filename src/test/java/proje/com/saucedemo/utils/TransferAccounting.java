@@ -0,0 +1,272 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.DataReceived;
+import org.openqa.selenium.devtools.v138.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v138.network.model.ResourceType;
+import org.openqa.selenium.devtools.v138.network.model.ResponseReceived;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Host ve CDP ResourceType bazında aktarılan byte muhasebesi
+ * Toplamlar satır indeksli primitive long kolonlarda tutulur: host'lar ilk görüldüklerinde bir satıra
+ * atanır (maxHosts aşılınca "(other)" satırına düşer), kaynak tipleri enum sırasını kullanır.
+ * Encoded boyut loadingFinished'den, decoded boyut dataReceived'den gelir (TIMING/FULL yakalama seviyesi gerekir).
+ * Sadece dağılımı tutar; oturum/adım toplamları NetworkCounters'tan okunur. Response'u görülmeyen
+ * istekler "(other)" host ve "(unknown)" tip satırına yazılır, böylece satırların toplamı sayaçlarla örtüşür
+ */
+public class TransferAccounting implements CdpEventSink, StepListener {
+
+    private static final Logger networkLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Network");
+
+    private static final ResourceType[] TYPES = ResourceType.values();
+    private static final int OTHER_HOST = 0;
+    private static final int TOP_ROWS = 5;
+
+    // kolon indeksleri
+    private static final int REQUESTS = 0;
+    private static final int ENCODED = 1;
+    private static final int DECODED = 2;
+    private static final int COLUMNS = 3;
+
+    // bekleyen istek alanları
+    private static final int HOST_ROW = 0;
+    private static final int TYPE_ROW = 1;
+    private static final int DECODED_BYTES = 2;
+    private static final int STARTED_AT = 3;
+
+    private final int maxHosts;
+    private final long ttlMillis;
+    private final Map<String, Integer> hostRows = new HashMap<>();
+    private String[] hosts;
+    // satır * COLUMNS + kolon
+    private long[] hostTotals;
+    private final long[] typeTotals = new long[(TYPES.length + 1) * COLUMNS];
+    // requestId -> {host satırı, tip sırası, decoded byte, başlangıç}; response'tan loadingFinished'e kadar,
+    // en fazla ttlMillis tutulur. Ekleme sırası başlangıç sırası olduğu için süresi dolanlar baştan atılır
+    private final LinkedHashMap<String, long[]> inFlight = new LinkedHashMap<>();
+    private long expiredRequests;
+
+    private long[] stepStartHostTotals = new long[0];
+    private long[] stepStartTypeTotals = new long[typeTotals.length];
+
+    /**
+     * @param maxHosts Ayrı satırda tutulacak en fazla host
+     * @param ttlMillis loadingFinished/loadingFailed gelmeyen isteklerin tutulacağı en uzun süre
+     */
+    public TransferAccounting(int maxHosts, long ttlMillis) {
+        this.maxHosts = maxHosts;
+        this.ttlMillis = ttlMillis;
+        this.hosts = new String[16];
+        this.hostTotals = new long[16 * COLUMNS];
+        hosts[OTHER_HOST] = "(other)";
+        hostRows.put(hosts[OTHER_HOST], OTHER_HOST);
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş tablo oluşturur
+     * devtools.bytes.maxHosts; bekleyen istek süresi RequestTimingTable ile aynı (devtools.timings.ttlSeconds)
+     */
+    public static TransferAccounting fromSystemProperties() {
+        return new TransferAccounting(Integer.getInteger("devtools.bytes.maxHosts", 256),
+                Integer.getInteger("devtools.timings.ttlSeconds", 120) * 1000L);
+    }
+
+    @Override
+    public synchronized void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case RESPONSE_RECEIVED: {
+                ResponseReceived response = event.payloadAs(ResponseReceived.class);
+                expire(event.receivedAtMillis());
+                // Yönlendirme sonrası aynı requestId tekrar gelebilir; sona taşınsın diye önce silinir
+                inFlight.remove(event.key());
+                inFlight.put(event.key(), new long[] {
+                        hostRow(host(response.getResponse().getUrl())),
+                        response.getType() != null ? response.getType().ordinal() : TYPES.length,
+                        0,
+                        event.receivedAtMillis()});
+                break;
+            }
+            case DATA_RECEIVED: {
+                long[] request = inFlight.get(event.key());
+                if (request != null) {
+                    request[DECODED_BYTES] += event.payloadAs(DataReceived.class).getDataLength().longValue();
+                }
+                break;
+            }
+            case LOADING_FINISHED: {
+                long[] request = inFlight.remove(event.key());
+                long encoded = event.payloadAs(LoadingFinished.class).getEncodedDataLength().longValue();
+                if (request != null) {
+                    add(hostTotals, (int) request[HOST_ROW], encoded, request[DECODED_BYTES]);
+                    add(typeTotals, (int) request[TYPE_ROW], encoded, request[DECODED_BYTES]);
+                } else {
+                    add(hostTotals, OTHER_HOST, encoded, 0);
+                    add(typeTotals, TYPES.length, encoded, 0);
+                }
+                break;
+            }
+            case LOADING_FAILED:
+                inFlight.remove(event.key());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Süresi dolan bekleyen istekleri atar (bitiş olayı hiç gelmeyen istekler)
+     */
+    private void expire(long nowMillis) {
+        Iterator<long[]> oldest = inFlight.values().iterator();
+        while (oldest.hasNext()) {
+            if (nowMillis - oldest.next()[STARTED_AT] < ttlMillis) {
+                break;
+            }
+            oldest.remove();
+            expiredRequests++;
+        }
+    }
+
+    /**
+     * Bitiş olayı gelmeden süresi dolduğu için atılan istek sayısı
+     */
+    public synchronized long getExpiredRequests() {
+        return expiredRequests;
+    }
+
+    private static void add(long[] totals, int row, long encoded, long decoded) {
+        int base = row * COLUMNS;
+        totals[base + REQUESTS]++;
+        totals[base + ENCODED] += encoded;
+        totals[base + DECODED] += decoded;
+    }
+
+    private int hostRow(String host) {
+        Integer row = hostRows.get(host);
+        if (row != null) {
+            return row;
+        }
+        if (hostRows.size() >= maxHosts) {
+            return OTHER_HOST;
+        }
+        int newRow = hostRows.size();
+        if (newRow == hosts.length) {
+            hosts = Arrays.copyOf(hosts, hosts.length * 2);
+            hostTotals = Arrays.copyOf(hostTotals, hosts.length * COLUMNS);
+        }
+        hosts[newRow] = host;
+        hostRows.put(host, newRow);
+        return newRow;
+    }
+
+    /**
+     * URL'nin host kısmı (http/https/ws dışındaki şemalar "(other)" satırına düşer)
+     */
+    static String host(String url) {
+        int schemeEnd = url.indexOf("://");
+        if (schemeEnd < 0) {
+            return "(other)";
+        }
+        int start = schemeEnd + 3;
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == ':' || c == '?' || c == '#') {
+                break;
+            }
+            end++;
+        }
+        return url.substring(start, end);
+    }
+
+    @Override
+    public synchronized void onStepStart(String stepName) {
+        stepStartHostTotals = hostTotals.clone();
+        stepStartTypeTotals = typeTotals.clone();
+    }
+
+    /**
+     * Adımda en çok byte taşıyan host ve kaynak tiplerini loglar (adım toplamı NetworkCounters'tan raporlanır)
+     */
+    @Override
+    public synchronized void onStepEnd(String stepName, long durationMillis) {
+        List<ByteTotals> byHost = hostRows(stepStartHostTotals);
+        if (byHost.isEmpty()) {
+            return;
+        }
+        List<ByteTotals> byType = typeRows(stepStartTypeTotals);
+        networkLogger.info("[CDP][Bytes] Step '{}' by host: {}", stepName, byHost.subList(0, Math.min(TOP_ROWS, byHost.size())));
+        networkLogger.info("[CDP][Bytes] Step '{}' by type: {}", stepName, byType.subList(0, Math.min(TOP_ROWS, byType.size())));
+    }
+
+    /**
+     * Oturum boyunca host bazında toplamlar (encoded byte'a göre azalan)
+     */
+    public synchronized List<ByteTotals> getByHost() {
+        return hostRows(new long[0]);
+    }
+
+    /**
+     * Oturum boyunca kaynak tipi bazında toplamlar (encoded byte'a göre azalan)
+     */
+    public synchronized List<ByteTotals> getByType() {
+        return typeRows(new long[typeTotals.length]);
+    }
+
+    private List<ByteTotals> hostRows(long[] baseline) {
+        List<ByteTotals> rows = new ArrayList<>();
+        for (int row = 0; row < hostRows.size(); row++) {
+            addRow(rows, hosts[row], hostTotals, baseline, row);
+        }
+        rows.sort(Comparator.comparingLong(ByteTotals::encodedBytes).reversed());
+        return rows;
+    }
+
+    private List<ByteTotals> typeRows(long[] baseline) {
+        List<ByteTotals> rows = new ArrayList<>();
+        for (int row = 0; row <= TYPES.length; row++) {
+            addRow(rows, row < TYPES.length ? TYPES[row].toString() : "(unknown)", typeTotals, baseline, row);
+        }
+        rows.sort(Comparator.comparingLong(ByteTotals::encodedBytes).reversed());
+        return rows;
+    }
+
+    private static void addRow(List<ByteTotals> rows, String key, long[] totals, long[] baseline, int row) {
+        int base = row * COLUMNS;
+        long requests = totals[base + REQUESTS] - at(baseline, base + REQUESTS);
+        if (requests > 0) {
+            rows.add(new ByteTotals(key, requests,
+                    totals[base + ENCODED] - at(baseline, base + ENCODED),
+                    totals[base + DECODED] - at(baseline, base + DECODED)));
+        }
+    }
+
+    private static long at(long[] values, int index) {
+        return index < values.length ? values[index] : 0;
+    }
+
+    /**
+     * Bir host veya kaynak tipinin aktarım toplamı
+     * @param encodedBytes Network üzerinden aktarılan (sıkıştırılmış, header dahil) byte
+     * @param decodedBytes Açılmış gövde boyutu (dataReceived dinlenmiyorsa 0)
+     */
+    public record ByteTotals(String key, long requests, long encodedBytes, long decodedBytes) {
+
+        @Override
+        public String toString() {
+            return decodedBytes > 0
+                    ? String.format("%s=%dKB/%dKB (%d)", key, encodedBytes / 1024, decodedBytes / 1024, requests)
+                    : String.format("%s=%dKB (%d)", key, encodedBytes / 1024, requests);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package proje.com.saucedemo.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL sınıflandırıcı - DevTools network filtrelemesinde kullanılan tüm pattern'leri
+ * tek bir Aho-Corasick otomatında toplar
+ * URL bir kez, büyük/küçük harf duyarsız ve nesne oluşturmadan taranır; sonuç bit maskesi olarak döner
+ */
+public final class UrlClassifier {
+
+    // Kategori bitleri
+    public static final int STATIC = 1;
+    public static final int ANALYTICS = 1 << 1;
+    public static final int API = 1 << 2;
+    public static final int SITE = 1 << 3;
+    public static final int STEP_PATH = 1 << 4;
+
+    // Test adımı türü için anahtar bitleri
+    private static final int K_SIGNUP = 1 << 5;
+    private static final int K_LOGIN = 1 << 6;
+    private static final int K_PRODUCTS = 1 << 7;
+    private static final int K_CART = 1 << 8;
+    private static final int K_CHECKOUT = 1 << 9;
+    private static final int K_PAYMENT = 1 << 10;
+    private static final int K_PRODUCT_DETAIL = 1 << 11;
+    private static final int K_HOME = 1 << 12;
+    private static final int K_CONTACT = 1 << 13;
+    private static final int K_ABOUT = 1 << 14;
+    private static final int K_CATEGORY = 1 << 15;
+    private static final int K_BRAND = 1 << 16;
+    private static final int K_ADD_TO_CART = 1 << 17;
+    private static final int K_REMOVE_FROM_CART = 1 << 18;
+    private static final int K_UPDATE_CART = 1 << 19;
+    private static final int K_ORDER = 1 << 20;
+    private static final int K_SUBSCRIBE = 1 << 21;
+    private static final int K_NEWSLETTER = 1 << 22;
+    private static final int K_SEARCH = 1 << 23;
+
+    private static final int ALPHABET = 128;
+
+    /**
+     * DevToolsHelper'ın kullandığı varsayılan pattern setleri
+     */
+    public static final UrlClassifier DEFAULT = createDefault();
+
+    private final int[] transitions;
+    private final int[] outputs;
+
+    private UrlClassifier(Map<String, Integer> patterns) {
+        // Trie oluştur
+        List<int[]> gotoTable = new ArrayList<>();
+        List<Integer> outputList = new ArrayList<>();
+        gotoTable.add(newRow());
+        outputList.add(0);
+
+        for (Map.Entry<String, Integer> entry : patterns.entrySet()) {
+            int state = 0;
+            for (char c : entry.getKey().toCharArray()) {
+                int index = fold(c);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Only ASCII patterns are supported: " + entry.getKey());
+                }
+                int next = gotoTable.get(state)[index];
+                if (next <= 0) {
+                    next = gotoTable.size();
+                    gotoTable.get(state)[index] = next;
+                    gotoTable.add(newRow());
+                    outputList.add(0);
+                }
+                state = next;
+            }
+            outputList.set(state, outputList.get(state) | entry.getValue());
+        }
+
+        int stateCount = gotoTable.size();
+        this.transitions = new int[stateCount * ALPHABET];
+        this.outputs = new int[stateCount];
+        int[] failure = new int[stateCount];
+
+        // Failure link'leri BFS ile hesapla ve tam DFA geçiş tablosu oluştur
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = gotoTable.get(0)[c];
+            if (next > 0) {
+                failure[next] = 0;
+                transitions[c] = next;
+                queue.add(next);
+            } else {
+                transitions[c] = 0;
+            }
+        }
+        outputs[0] = outputList.get(0);
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = outputList.get(state) | outputs[failure[state]];
+            int[] row = gotoTable.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = row[c];
+                if (next > 0) {
+                    failure[next] = transitions[failure[state] * ALPHABET + c];
+                    transitions[state * ALPHABET + c] = next;
+                    queue.add(next);
+                } else {
+                    transitions[state * ALPHABET + c] = transitions[failure[state] * ALPHABET + c];
+                }
+            }
+        }
+    }
+
+    private static int[] newRow() {
+        return new int[ALPHABET];
+    }
+
+    /**
+     * Karakteri küçük harfe indirger; ASCII dışı karakterler için -1 döner
+     */
+    private static int fold(char c) {
+        if (c >= ALPHABET) {
+            return -1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        return c;
+    }
+
+    /**
+     * URL'yi tek geçişte tarar ve eşleşen tüm kategori bitlerini döndürür
+     * @param url Sınıflandırılacak URL (null ise 0 döner)
+     */
+    public int classify(CharSequence url) {
+        if (url == null) {
+            return 0;
+        }
+        int state = 0;
+        int mask = 0;
+        for (int i = 0, n = url.length(); i < n; i++) {
+            int c = fold(url.charAt(i));
+            if (c < 0) {
+                // Pattern'lerin hepsi ASCII, ASCII dışı karakter hiçbir eşleşmenin parçası olamaz
+                state = 0;
+                continue;
+            }
+            state = transitions[state * ALPHABET + c];
+            mask |= outputs[state];
+        }
+        return mask;
+    }
+
+    /**
+     * Statik kaynak mı (css, js, resim, font vb.)
+     */
+    public static boolean isStatic(int mask) {
+        return (mask & STATIC) != 0;
+    }
+
+    /**
+     * API endpoint'i mi
+     */
+    public static boolean isApi(int mask) {
+        return (mask & API) != 0;
+    }
+
+    /**
+     * Google Analytics/Ads çağrısı mı
+     */
+    public static boolean isAnalytics(int mask) {
+        return (mask & ANALYTICS) != 0;
+    }
+
+    /**
+     * Test adımlarıyla ilgili bir istek mi
+     */
+    public static boolean isTestStep(int mask, String method) {
+        if (method == null || (mask & (STATIC | ANALYTICS)) != 0) {
+            return false;
+        }
+        return (mask & (SITE | STEP_PATH)) != 0;
+    }
+
+    /**
+     * Maske ve HTTP metoduna göre test adımı türünü belirler
+     */
+    public static TestStepType stepType(int mask, String method) {
+        if (method == null) {
+            return TestStepType.PAGE_LOAD;
+        }
+
+        // Sayfa navigasyonları
+        if (method.equalsIgnoreCase("GET")) {
+            if ((mask & (K_SIGNUP | K_LOGIN)) != 0) return TestStepType.AUTH_PAGE;
+            if ((mask & K_PRODUCTS) != 0) return TestStepType.PRODUCTS_PAGE;
+            if ((mask & K_CART) != 0) return TestStepType.CART_PAGE;
+            if ((mask & K_CHECKOUT) != 0) return TestStepType.CHECKOUT_PAGE;
+            if ((mask & K_PAYMENT) != 0) return TestStepType.PAYMENT_PAGE;
+            if ((mask & K_PRODUCT_DETAIL) != 0) return TestStepType.PRODUCT_DETAIL;
+            if ((mask & K_HOME) != 0) return TestStepType.HOME_PAGE;
+            if ((mask & K_CONTACT) != 0) return TestStepType.CONTACT_PAGE;
+            if ((mask & K_ABOUT) != 0) return TestStepType.ABOUT_PAGE;
+            if ((mask & K_CATEGORY) != 0) return TestStepType.CATEGORY_PAGE;
+            if ((mask & K_BRAND) != 0) return TestStepType.BRAND_PAGE;
+        }
+
+        // Form gönderimleri
+        if (method.equalsIgnoreCase("POST")) {
+            if ((mask & K_SIGNUP) != 0) return TestStepType.SIGNUP_SUBMIT;
+            if ((mask & K_LOGIN) != 0) return TestStepType.LOGIN_SUBMIT;
+            if ((mask & K_ADD_TO_CART) != 0) return TestStepType.ADD_TO_CART;
+            if ((mask & K_REMOVE_FROM_CART) != 0) return TestStepType.REMOVE_FROM_CART;
+            if ((mask & K_UPDATE_CART) != 0) return TestStepType.UPDATE_CART;
+            if ((mask & K_CHECKOUT) != 0) return TestStepType.CHECKOUT_SUBMIT;
+            if ((mask & K_PAYMENT) != 0) return TestStepType.PAYMENT_SUBMIT;
+            if ((mask & K_ORDER) != 0) return TestStepType.ORDER_SUBMIT;
+            if ((mask & K_SUBSCRIBE) != 0) return TestStepType.SUBSCRIBE;
+            if ((mask & K_CONTACT) != 0) return TestStepType.CONTACT_SUBMIT;
+            if ((mask & K_NEWSLETTER) != 0) return TestStepType.NEWSLETTER_SUBSCRIBE;
+            if ((mask & K_SEARCH) != 0) return TestStepType.SEARCH_SUBMIT;
+        }
+
+        // Diğer metodlar
+        if (method.equalsIgnoreCase("PUT")) return TestStepType.UPDATE_ACTION;
+        if (method.equalsIgnoreCase("DELETE")) return TestStepType.DELETE_ACTION;
+        if (method.equalsIgnoreCase("PATCH")) return TestStepType.PATCH_ACTION;
+
+        return TestStepType.PAGE_LOAD;
+    }
+
+    /**
+     * Varsayılan pattern setlerinden sınıflandırıcıyı oluşturur
+     */
+    private static UrlClassifier createDefault() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+
+        // Statik kaynaklar: CSS, JavaScript, resim, font ve diğerleri
+        for (String pattern : new String[] {
+                ".css", "css/", ".js", "js/",
+                ".jpg", ".jpeg", ".png", ".gif", ".svg", ".ico", ".webp", "images/",
+                ".woff", ".woff2", ".ttf", ".eot", "fonts/",
+                ".pdf", ".xml", ".txt", "static/"}) {
+            add(patterns, pattern, STATIC);
+        }
+
+        // Google Analytics/Ads çağrıları
+        for (String pattern : new String[] {
+                "csi.gstatic.com", "google-analytics.com", "googletagmanager.com",
+                "doubleclick.net", "googleads"}) {
+            add(patterns, pattern, ANALYTICS);
+        }
+
+        // API endpoint pattern'leri
+        for (String pattern : new String[] {
+                "/api/", "/rest/", "/ajax/", "/signup", "/login", "/logout", "/cart",
+                "/checkout", "/payment", "/order", "/product", "/search", "/filter",
+                "/add", "/remove", "/update"}) {
+            add(patterns, pattern, API);
+        }
+
+        // Ana test sitesi
+        add(patterns, "automationexercise.com", SITE);
+
+        // Test adımlarıyla ilgili endpoint'ler, form gönderimleri ve sayfa navigasyonları
+        for (String pattern : new String[] {
+                "/signup", "/login", "/logout", "/cart", "/checkout", "/payment", "/order",
+                "/add_to_cart", "/remove_from_cart", "/update_cart", "/subscribe", "/contact",
+                "/newsletter", "/search", "/filter", "/product_detail", "/products", "/view_cart",
+                "/view_product", "/category", "/brand",
+                "form", "submit", "action", "home", "about", "contact"}) {
+            add(patterns, pattern, STEP_PATH);
+        }
+
+        // Test adımı türü anahtarları
+        add(patterns, "/signup", K_SIGNUP);
+        add(patterns, "/login", K_LOGIN);
+        add(patterns, "/products", K_PRODUCTS);
+        add(patterns, "/cart", K_CART);
+        add(patterns, "view_cart", K_CART);
+        add(patterns, "/checkout", K_CHECKOUT);
+        add(patterns, "/payment", K_PAYMENT);
+        add(patterns, "/product_detail", K_PRODUCT_DETAIL);
+        add(patterns, "/home", K_HOME);
+        add(patterns, "/contact", K_CONTACT);
+        add(patterns, "/about", K_ABOUT);
+        add(patterns, "/category", K_CATEGORY);
+        add(patterns, "/brand", K_BRAND);
+        add(patterns, "/add_to_cart", K_ADD_TO_CART);
+        add(patterns, "/remove_from_cart", K_REMOVE_FROM_CART);
+        add(patterns, "/update_cart", K_UPDATE_CART);
+        add(patterns, "/order", K_ORDER);
+        add(patterns, "/subscribe", K_SUBSCRIBE);
+        add(patterns, "/newsletter", K_NEWSLETTER);
+        add(patterns, "/search", K_SEARCH);
+
+        return new UrlClassifier(patterns);
+    }
+
+    private static void add(Map<String, Integer> patterns, String pattern, int bits) {
+        patterns.merge(pattern, bits, (a, b) -> a | b);
+    }
+}
@@ -0,0 +1,352 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.network.model.WebSocketClosed;
+import org.openqa.selenium.devtools.v138.network.model.WebSocketCreated;
+import org.openqa.selenium.devtools.v138.network.model.WebSocketFrame;
+import org.openqa.selenium.devtools.v138.network.model.WebSocketFrameError;
+import org.openqa.selenium.devtools.v138.network.model.WebSocketFrameReceived;
+import org.openqa.selenium.devtools.v138.network.model.WebSocketFrameSent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * WebSocket bağlantılarını soket bazında izleyen olay hattı tüketicisi
+ * Her soket için yön bazında frame sayısı, payload boyut histogramı, saniyedeki frame sayısı (ortalama ve tepe)
+ * ve korelasyon anahtarı tanımlıysa istek/yanıt frame'leri arasındaki gidiş-dönüş süresi tutulur.
+ * Payload yakalama opsiyoneldir; soket başına frame sayısı ve frame başına karakter sayısı sınırlıdır.
+ * Kapanan soketler loglandıktan sonra özet ve yakalanan frame'leriyle sınırlı bir kuyruğa taşınır
+ */
+public class WebSocketMonitor implements CdpEventSink {
+
+    private static final Logger networkLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Network");
+
+    private static final int OPCODE_TEXT = 1;
+    private static final int OPCODE_BINARY = 2;
+
+    private final Pattern correlationPattern;
+    private final int maxPending;
+    private final boolean capturePayloads;
+    private final int captureFrames;
+    private final int capturePayloadChars;
+    private final int maxClosedSockets;
+
+    // requestId -> açık soket; sadece tüketici thread ve okuma metodlarında (senkron) erişilir
+    private final Map<String, Socket> sockets = new LinkedHashMap<>();
+    // kapanış sırasıyla kapanan soketlerin özetleri (en eskiler atılır)
+    private final Deque<ClosedSocket> closedSockets = new ArrayDeque<>();
+    private long evictedClosedSockets;
+
+    /**
+     * @param correlationKey İstek ve yanıt frame'lerini eşleyen JSON alanı (null ise gidiş-dönüş ölçülmez)
+     * @param maxPending Soket başına yanıt bekleyen en fazla istek sayısı
+     * @param capturePayloads Payload örnekleri saklansın mı?
+     * @param captureFrames Soket başına saklanacak en fazla frame (en eskiler atılır)
+     * @param capturePayloadChars Frame başına saklanacak en fazla karakter
+     * @param maxClosedSockets Özeti saklanacak en fazla kapanmış soket
+     */
+    public WebSocketMonitor(String correlationKey, int maxPending, boolean capturePayloads, int captureFrames,
+                            int capturePayloadChars, int maxClosedSockets) {
+        this.correlationPattern = correlationKey == null || correlationKey.isEmpty() ? null : Pattern.compile(
+                "\"" + Pattern.quote(correlationKey) + "\"\\s*:\\s*(?:\"((?:[^\"\\\\]|\\\\.)*)\"|(-?\\d+))");
+        this.maxPending = maxPending;
+        this.capturePayloads = capturePayloads;
+        this.captureFrames = captureFrames;
+        this.capturePayloadChars = capturePayloadChars;
+        this.maxClosedSockets = maxClosedSockets;
+    }
+
+    /**
+     * Sistem property'lerinden konfigüre edilmiş izleyici oluşturur
+     * devtools.ws.correlationKey, devtools.ws.maxPending, devtools.ws.capturePayloads,
+     * devtools.ws.captureFrames, devtools.ws.capturePayloadChars, devtools.ws.maxClosedSockets
+     */
+    public static WebSocketMonitor fromSystemProperties() {
+        return new WebSocketMonitor(
+                System.getProperty("devtools.ws.correlationKey"),
+                Integer.getInteger("devtools.ws.maxPending", 1000),
+                Boolean.getBoolean("devtools.ws.capturePayloads"),
+                Integer.getInteger("devtools.ws.captureFrames", 100),
+                Integer.getInteger("devtools.ws.capturePayloadChars", 1024),
+                Integer.getInteger("devtools.ws.maxClosedSockets", 100));
+    }
+
+    @Override
+    public synchronized void onEvent(CdpEvent event) {
+        switch (event.kind()) {
+            case WS_CREATED: {
+                WebSocketCreated created = event.payloadAs(WebSocketCreated.class);
+                sockets.put(event.key(), new Socket(created.getUrl(), event.receivedAtMillis()));
+                networkLogger.info("[CDP][WebSocket] Opened {}", created.getUrl());
+                break;
+            }
+            case WS_FRAME_SENT: {
+                Socket socket = sockets.get(event.key());
+                if (socket != null) {
+                    WebSocketFrameSent sent = event.payloadAs(WebSocketFrameSent.class);
+                    onFrame(socket, socket.sent, sent.getResponse(), NetworkLifecycleTracker.toMicros(sent.getTimestamp()));
+                }
+                break;
+            }
+            case WS_FRAME_RECEIVED: {
+                Socket socket = sockets.get(event.key());
+                if (socket != null) {
+                    WebSocketFrameReceived received = event.payloadAs(WebSocketFrameReceived.class);
+                    onFrame(socket, socket.received, received.getResponse(),
+                            NetworkLifecycleTracker.toMicros(received.getTimestamp()));
+                }
+                break;
+            }
+            case WS_FRAME_ERROR: {
+                Socket socket = sockets.get(event.key());
+                if (socket != null) {
+                    socket.errors++;
+                    networkLogger.warn("[CDP][WebSocket] Frame error on {}: {}", socket.url,
+                            event.payloadAs(WebSocketFrameError.class).getErrorMessage());
+                }
+                break;
+            }
+            case WS_CLOSED: {
+                Socket socket = sockets.remove(event.key());
+                if (socket != null) {
+                    socket.closed = true;
+                    socket.closedMicros = NetworkLifecycleTracker.toMicros(event.payloadAs(WebSocketClosed.class).getTimestamp());
+                    SocketStats stats = stats(socket);
+                    networkLogger.info("[CDP][WebSocket] Closed {}", stats);
+                    if (closedSockets.size() >= maxClosedSockets) {
+                        closedSockets.removeFirst();
+                        evictedClosedSockets++;
+                    }
+                    closedSockets.addLast(new ClosedSocket(stats, List.copyOf(socket.captured)));
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    private void onFrame(Socket socket, Direction direction, WebSocketFrame frame, long timestampMicros) {
+        int opcode = frame.getOpcode().intValue();
+        String payload = frame.getPayloadData() != null ? frame.getPayloadData() : "";
+        long length = opcode == OPCODE_BINARY ? base64Length(payload) : utf8Length(payload);
+
+        direction.frames++;
+        direction.bytes += length;
+        direction.sizes.record(length);
+
+        if (socket.firstFrameMicros == 0) {
+            socket.firstFrameMicros = timestampMicros;
+        }
+        socket.lastFrameMicros = timestampMicros;
+        long second = timestampMicros / 1_000_000;
+        if (second != socket.currentSecond) {
+            socket.currentSecond = second;
+            socket.framesInSecond = 0;
+        }
+        socket.framesInSecond++;
+        socket.peakFramesPerSecond = Math.max(socket.peakFramesPerSecond, socket.framesInSecond);
+
+        if (correlationPattern != null && opcode == OPCODE_TEXT) {
+            correlate(socket, direction == socket.sent, payload, timestampMicros);
+        }
+        if (capturePayloads) {
+            if (socket.captured.size() >= captureFrames) {
+                socket.captured.removeFirst();
+            }
+            socket.captured.addLast(new CapturedFrame(direction == socket.sent ? "sent" : "received",
+                    timestampMicros, opcode, length,
+                    payload.length() > capturePayloadChars ? payload.substring(0, capturePayloadChars) + "..." : payload));
+        }
+    }
+
+    /**
+     * Gönderilen frame'in anahtarını bekleyenlere ekler; aynı anahtarlı ilk gelen frame yanıt kabul edilir
+     */
+    private void correlate(Socket socket, boolean outgoing, String payload, long timestampMicros) {
+        Matcher matcher = correlationPattern.matcher(payload);
+        if (!matcher.find()) {
+            return;
+        }
+        String key = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+        if (outgoing) {
+            if (socket.pending.size() >= maxPending) {
+                socket.pending.remove(socket.pending.keySet().iterator().next());
+                socket.expiredRequests++;
+            }
+            socket.pending.put(key, timestampMicros);
+            return;
+        }
+        Long sentMicros = socket.pending.remove(key);
+        if (sentMicros != null) {
+            socket.roundTrips.record(timestampMicros - sentMicros);
+        }
+    }
+
+    /**
+     * Soket özetlerini al: saklanan kapanmış soketler kapanış sırasıyla, ardından açık soketler açılış sırasıyla
+     */
+    public synchronized List<SocketStats> getSocketStats() {
+        List<SocketStats> stats = new ArrayList<>(closedSockets.size() + sockets.size());
+        for (ClosedSocket closed : closedSockets) {
+            stats.add(closed.stats());
+        }
+        for (Socket socket : sockets.values()) {
+            stats.add(stats(socket));
+        }
+        return stats;
+    }
+
+    /**
+     * maxClosedSockets aşıldığı için özeti atılan kapanmış soket sayısı
+     */
+    public synchronized long getEvictedClosedSockets() {
+        return evictedClosedSockets;
+    }
+
+    /**
+     * Yakalanan payload örneklerini al (capturePayloads kapalıysa boş)
+     */
+    public synchronized List<CapturedFrame> getCapturedFrames(String url) {
+        List<CapturedFrame> frames = new ArrayList<>();
+        for (ClosedSocket closed : closedSockets) {
+            if (closed.stats().url().equals(url)) {
+                frames.addAll(closed.captured());
+            }
+        }
+        for (Socket socket : sockets.values()) {
+            if (socket.url.equals(url)) {
+                frames.addAll(socket.captured);
+            }
+        }
+        return frames;
+    }
+
+    private SocketStats stats(Socket socket) {
+        long end = socket.closed ? socket.closedMicros : socket.lastFrameMicros;
+        double activeSeconds = socket.firstFrameMicros > 0 ? (end - socket.firstFrameMicros) / 1_000_000.0 : 0;
+        long frames = socket.sent.frames + socket.received.frames;
+        return new SocketStats(
+                socket.url,
+                socket.openedAtMillis,
+                socket.closed,
+                socket.sent.summary(),
+                socket.received.summary(),
+                activeSeconds > 0 ? frames / activeSeconds : frames,
+                socket.peakFramesPerSecond,
+                socket.roundTrips.summarize(),
+                socket.pending.size(),
+                socket.expiredRequests,
+                socket.errors);
+    }
+
+    static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    static long base64Length(String base64) {
+        int length = base64.length();
+        int padding = length > 0 && base64.charAt(length - 1) == '=' ? (length > 1 && base64.charAt(length - 2) == '=' ? 2 : 1) : 0;
+        return length / 4L * 3 - padding;
+    }
+
+    private static final class Socket {
+        private final String url;
+        private final long openedAtMillis;
+        private final Direction sent = new Direction();
+        private final Direction received = new Direction();
+        private final LatencyHistogram roundTrips = new LatencyHistogram();
+        // korelasyon anahtarı -> gönderim zamanı (mikrosaniye), ekleme sırasıyla
+        private final LinkedHashMap<String, Long> pending = new LinkedHashMap<>();
+        private final Deque<CapturedFrame> captured = new ArrayDeque<>();
+        private long firstFrameMicros;
+        private long lastFrameMicros;
+        private long closedMicros;
+        private long currentSecond = -1;
+        private int framesInSecond;
+        private int peakFramesPerSecond;
+        private long expiredRequests;
+        private long errors;
+        private boolean closed;
+
+        private Socket(String url, long openedAtMillis) {
+            this.url = url;
+            this.openedAtMillis = openedAtMillis;
+        }
+    }
+
+    private static final class Direction {
+        // byte cinsinden payload boyutları
+        private final LatencyHistogram sizes = new LatencyHistogram();
+        private long frames;
+        private long bytes;
+
+        private PayloadSizes summary() {
+            return new PayloadSizes(frames, bytes, sizes.valueAtPercentile(50.0), sizes.valueAtPercentile(95.0),
+                    sizes.maxValue());
+        }
+    }
+
+    private record ClosedSocket(SocketStats stats, List<CapturedFrame> captured) {
+    }
+
+    /**
+     * Tek yöndeki frame sayısı ve payload boyut dağılımı (byte)
+     */
+    public record PayloadSizes(long frames, long totalBytes, long p50Bytes, long p95Bytes, long maxBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("%d frames, %dKB (p50=%dB, p95=%dB, max=%dB)",
+                    frames, totalBytes / 1024, p50Bytes, p95Bytes, maxBytes);
+        }
+    }
+
+    /**
+     * Bir soketin özeti
+     * @param roundTrips Korelasyon anahtarıyla eşlenen istek/yanıt süreleri
+     * @param pendingRequests Henüz yanıtı görülmeyen istekler
+     * @param expiredRequests maxPending aşıldığı için eşlenmeden atılan istekler
+     */
+    public record SocketStats(String url, long openedAtMillis, boolean closed, PayloadSizes sent, PayloadSizes received,
+                              double averageFramesPerSecond, int peakFramesPerSecond, LatencySummary roundTrips,
+                              int pendingRequests, long expiredRequests, long errors) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: sent[%s], received[%s], %.1f frames/s (peak %d/s)%s%s%s",
+                    url, sent, received, averageFramesPerSecond, peakFramesPerSecond,
+                    roundTrips.count() > 0 ? ", rtt[" + roundTrips + "]" : "",
+                    pendingRequests + expiredRequests > 0 ? ", unanswered=" + (pendingRequests + expiredRequests) : "",
+                    errors > 0 ? ", errors=" + errors : "");
+        }
+    }
+
+    /**
+     * Yakalanan tek bir frame (payload capturePayloadChars'a kadar kesilir)
+     */
+    public record CapturedFrame(String direction, long timestampMicros, int opcode, long length, String payload) {
+    }
+}
@@ -0,0 +1,202 @@
+package proje.com.saucedemo.utils;
+
+import org.openqa.selenium.devtools.v138.runtime.model.BindingCalled;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Core Web Vitals toplayıcı - sayfaya enjekte edilen PerformanceObserver script'inin
+ * Runtime.addBinding kanalından gönderdiği değerleri navigasyon bazında kayıtlara dönüştürür
+ * Her yeni doküman (performance.timeOrigin) ayrı bir {@link PageVitals} kaydı oluşturur
+ */
+public class WebVitalsCollector implements CdpEventSink, StepListener, AutoCloseable {
+
+    private static final Logger performanceLogger = LoggerFactory.getLogger("proje.com.saucedemo.utils.DevToolsHelper.Performance");
+
+    /**
+     * Sayfada window üzerine eklenen binding fonksiyonunun adı
+     */
+    public static final String BINDING_NAME = "__cdpVitals";
+
+    private static final String SCRIPT_RESOURCE = "scripts/web-vitals.js";
+
+    private final Json json = new Json();
+    private final List<PageVitals> pages = new ArrayList<>();
+    private PageVitals current;
+    private volatile String currentStep;
+
+    /**
+     * Enjekte edilecek script'i classpath'ten yükler
+     */
+    public static String loadScript() {
+        try (InputStream input = WebVitalsCollector.class.getClassLoader().getResourceAsStream(SCRIPT_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Web vitals script not found on classpath: " + SCRIPT_RESOURCE);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).replace("__BINDING_NAME__", BINDING_NAME);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load web vitals script", e);
+        }
+    }
+
+    @Override
+    public void onEvent(CdpEvent event) {
+        if (event.kind() != CdpEvent.Kind.BINDING_CALLED) {
+            return;
+        }
+        BindingCalled call = event.payloadAs(BindingCalled.class);
+        if (!BINDING_NAME.equals(call.getName())) {
+            return;
+        }
+
+        Map<String, Object> message = json.toType(call.getPayload(), Json.MAP_TYPE);
+        String navigationId = String.valueOf(message.get("navigationId"));
+        String url = String.valueOf(message.get("url"));
+        String name = String.valueOf(message.get("name"));
+        Object value = message.get("value");
+        if (!(value instanceof Number)) {
+            return;
+        }
+
+        synchronized (this) {
+            if (current == null || !current.getNavigationId().equals(navigationId)) {
+                finish(current);
+                current = new PageVitals(navigationId, url, currentStep);
+                pages.add(current);
+            }
+            current.update(name, ((Number) value).doubleValue());
+        }
+    }
+
+    private void finish(PageVitals vitals) {
+        if (vitals != null) {
+            performanceLogger.info("[CDP][Vitals] {}", vitals);
+        }
+    }
+
+    @Override
+    public void onStepStart(String stepName) {
+        currentStep = stepName;
+    }
+
+    @Override
+    public void onStepEnd(String stepName, long durationMillis) {
+        currentStep = null;
+    }
+
+    /**
+     * Navigasyon bazında vitals kayıtlarını al (navigasyon sırasıyla)
+     */
+    public synchronized List<PageVitals> getPageVitals() {
+        List<PageVitals> snapshot = new ArrayList<>(pages.size());
+        for (PageVitals vitals : pages) {
+            snapshot.add(vitals.copy());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Son sayfanın kaydını loglar
+     */
+    @Override
+    public synchronized void close() {
+        finish(current);
+        current = null;
+    }
+
+    /**
+     * Tek bir navigasyonun Web Vitals değerleri (süreler ms, ölçülmeyen değerler NaN)
+     */
+    public static final class PageVitals {
+        private final String navigationId;
+        private final String url;
+        private final String stepName;
+        private double ttfb = Double.NaN;
+        private double fcp = Double.NaN;
+        private double lcp = Double.NaN;
+        private double cls = Double.NaN;
+        private double fid = Double.NaN;
+        private double inp = Double.NaN;
+        private int longTaskCount;
+        private double longTaskMillis;
+        private double totalBlockingTime;
+
+        PageVitals(String navigationId, String url, String stepName) {
+            this.navigationId = navigationId;
+            this.url = url;
+            this.stepName = stepName;
+        }
+
+        void update(String name, double value) {
+            switch (name) {
+                case "TTFB":
+                    ttfb = value;
+                    break;
+                case "FCP":
+                    fcp = value;
+                    break;
+                case "LCP":
+                    lcp = value;
+                    break;
+                case "CLS":
+                    cls = value;
+                    break;
+                case "FID":
+                    fid = value;
+                    break;
+                case "INP":
+                    inp = value;
+                    break;
+                case "LONG_TASK":
+                    longTaskCount++;
+                    longTaskMillis += value;
+                    // 50ms üzerindeki kısım ana thread'i bloklayan süredir
+                    totalBlockingTime += Math.max(0, value - 50);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        PageVitals copy() {
+            PageVitals copy = new PageVitals(navigationId, url, stepName);
+            copy.ttfb = ttfb;
+            copy.fcp = fcp;
+            copy.lcp = lcp;
+            copy.cls = cls;
+            copy.fid = fid;
+            copy.inp = inp;
+            copy.longTaskCount = longTaskCount;
+            copy.longTaskMillis = longTaskMillis;
+            copy.totalBlockingTime = totalBlockingTime;
+            return copy;
+        }
+
+        public String getNavigationId() { return navigationId; }
+        public String getUrl() { return url; }
+        public String getStepName() { return stepName; }
+        public double getTtfb() { return ttfb; }
+        public double getFcp() { return fcp; }
+        public double getLcp() { return lcp; }
+        public double getCls() { return cls; }
+        public double getFid() { return fid; }
+        public double getInp() { return inp; }
+        public int getLongTaskCount() { return longTaskCount; }
+        public double getLongTaskMillis() { return longTaskMillis; }
+        public double getTotalBlockingTime() { return totalBlockingTime; }
+
+        @Override
+        public String toString() {
+            return String.format("PageVitals{url=%s, step=%s, TTFB=%.0fms, FCP=%.0fms, LCP=%.0fms, CLS=%.3f, FID=%.0fms, INP=%.0fms, longTasks=%d (%.0fms, TBT=%.0fms)}",
+                    url, stepName, ttfb, fcp, lcp, cls, fid, inp, longTaskCount, longTaskMillis, totalBlockingTime);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package proje.com.saucedemo.verification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Bir sayfa/adım için performans bütçesi - tanımlanmayan sınırlar (NOT_SET) kontrol edilmez
+ * Bütçeler classpath'teki budgets/&lt;sayfa&gt;.properties dosyalarından yüklenir;
+ * -Ddevtools.budget.dir=&lt;dizin&gt; ile verilen dizindeki aynı isimli dosya değerleri ezer.
+ * Hazır sınırlar emülasyonsuz koşu (network NONE, CPU 1x, "full" bloklama) için geniş payla seçilmiş başlangıç
+ * değerleridir, ölçülmüş bir baz çizgisi değildir; step-timings.csv'deki NONE/1x ölçümlerine ~%50 pay eklenerek
+ * daraltılmalıdır. Yavaş matris profilleri bu sınırları sadece uyarı olarak loglar (devtools.budget.enforce=false)
+ */
+public record PerformanceBudget(String name, long maxRequests, long maxBytes, long p95LatencyMillis,
+                                long maxLcpMillis, long maxJsHeapGrowthBytes) {
+
+    public static final long NOT_SET = -1;
+
+    private static final String RESOURCE_DIR = "budgets/";
+
+    /**
+     * Sayfa bütçesini yükler
+     * Anahtarlar: maxRequests, maxTransferKb, p95LatencyMs, maxLcpMs, maxJsHeapGrowthMb
+     */
+    public static PerformanceBudget load(String name) {
+        Properties properties = loadProperties(name);
+        return new PerformanceBudget(
+                name,
+                value(properties, "maxRequests", 1),
+                value(properties, "maxTransferKb", 1024),
+                value(properties, "p95LatencyMs", 1),
+                value(properties, "maxLcpMs", 1),
+                value(properties, "maxJsHeapGrowthMb", 1024 * 1024));
+    }
+
+    private static Properties loadProperties(String name) {
+        Properties properties = new Properties();
+        boolean found = false;
+        try (InputStream input = PerformanceBudget.class.getClassLoader()
+                .getResourceAsStream(RESOURCE_DIR + name + ".properties")) {
+            if (input != null) {
+                properties.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+                found = true;
+            }
+            String customDir = System.getProperty("devtools.budget.dir");
+            if (customDir != null) {
+                Path customFile = Paths.get(customDir, name + ".properties");
+                if (Files.exists(customFile)) {
+                    try (Reader reader = Files.newBufferedReader(customFile, StandardCharsets.UTF_8)) {
+                        properties.load(reader);
+                    }
+                    found = true;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load performance budget: " + name, e);
+        }
+        if (!found) {
+            throw new IllegalArgumentException("Unknown performance budget: " + name);
+        }
+        return properties;
+    }
+
+    private static long value(Properties properties, String key, long multiplier) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return NOT_SET;
+        }
+        return Long.parseLong(value.trim()) * multiplier;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Budget '%s': maxRequests=%s, maxTransfer=%s, p95=%s, maxLCP=%s, maxHeapGrowth=%s",
+                name, format(maxRequests, 1, ""), format(maxBytes, 1024, "KB"), format(p95LatencyMillis, 1, "ms"),
+                format(maxLcpMillis, 1, "ms"), format(maxJsHeapGrowthBytes, 1024 * 1024, "MB"));
+    }
+
+    private static String format(long limit, long divisor, String unit) {
+        return limit == NOT_SET ? "-" : (limit / divisor) + unit;
+    }
+}
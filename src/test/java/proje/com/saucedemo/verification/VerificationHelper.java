@@ -7,8 +7,10 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import proje.com.saucedemo.utils.StepPerformance;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -358,4 +360,65 @@ public class VerificationHelper {
             throw new RuntimeException("Text verification failed for '" + elementName + "'");
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Adım ölçümlerini budgets/&lt;budgetName&gt;.properties dosyasındaki bütçeye göre doğrular
+     * @param budgetName Bütçe dosyası adı (örn. "checkout")
+     * @param actual Adımın ölçülen performans değerleri
+     */
+    public void verifyStepBudget(String budgetName, StepPerformance actual) {
+        verifyStepBudget(actual, PerformanceBudget.load(budgetName));
+    }
+    
+    /**
+     * Adım ölçümlerini verilen sınırlara göre doğrular (PerformanceBudget.NOT_SET olan sınır atlanır)
+     */
+    public void verifyStepBudget(String budgetName, StepPerformance actual, long maxRequests, long maxBytes,
+                                 long p95LatencyMillis, long maxLcpMillis, long maxJsHeapGrowthBytes) {
+        verifyStepBudget(actual, new PerformanceBudget(budgetName, maxRequests, maxBytes, p95LatencyMillis,
+                maxLcpMillis, maxJsHeapGrowthBytes));
+    }
+    
+    /**
+     * Tüm bütçe kalemlerini kontrol eder; aşılan kalemlerin hepsi tek bir hata raporunda listelenir
+     * Sınırı tanımlı olup ölçülemeyen metrikler (ör. web vitals kapalıyken LCP) "not measured" olarak
+     * aşım sayılır; -Ddevtools.budget.enforce=false ile aşımlar sadece uyarı olarak loglanır
+     */
+    public void verifyStepBudget(StepPerformance actual, PerformanceBudget budget) {
+        List<String> breaches = new ArrayList<>();
+        checkBudget(breaches, "requests", actual.requests(), budget.maxRequests(), "");
+        checkBudget(breaches, "transferred bytes", actual.encodedBytes(), budget.maxBytes(), "B");
+        checkBudget(breaches, "p95 latency", actual.p95LatencyMillis(), budget.p95LatencyMillis(), "ms");
+        checkBudget(breaches, "LCP", actual.lcpMillis(), budget.maxLcpMillis(), "ms");
+        checkBudget(breaches, "JS heap growth", actual.jsHeapGrowthBytes(), budget.maxJsHeapGrowthBytes(), "B");
+        
+        if (breaches.isEmpty()) {
+            logger.info("Performance budget '{}' met: {}", budget.name(), actual);
+            return;
+        }
+        
+        String report = "Performance budget '" + budget.name() + "' not met for step '" + actual.stepName()
+                + "' (" + breaches.size() + " breach(es)):\n  - " + String.join("\n  - ", breaches);
+        if (!Boolean.parseBoolean(System.getProperty("devtools.budget.enforce", "true"))) {
+            logger.warn(report);
+            return;
+        }
+        logger.error(report);
+        throw new RuntimeException(report);
+    }
+    
+    private static void checkBudget(List<String> breaches, String metric, double actual, long limit, String unit) {
+        if (limit == PerformanceBudget.NOT_SET) {
+            return;
+        }
+        if (Double.isNaN(actual)) {
+            breaches.add(String.format("%s: not measured (limit %d%s)", metric, limit, unit));
+            return;
+        }
+        if (actual <= limit) {
+            return;
+        }
+        breaches.add(String.format("%s: %.0f%s > %d%s (+%.0f%s)", metric, actual, unit, limit, unit,
+                actual - limit, unit));
+    }
+}
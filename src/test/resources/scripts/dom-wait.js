@@ -0,0 +1,59 @@
+// DOM bekleme motoru - Runtime.evaluate awaitPromise ile tek bir CDP çağrısında çalışır
+// Koşul önce hemen kontrol edilir, sağlanmıyorsa MutationObserver her DOM değişikliğinde tekrar kontrol eder
+// Sonuç: { satisfied: boolean, elapsedMs: number }
+(function (selector, condition, previousText, timeoutMs) {
+    var start = performance.now();
+
+    function visible(element) {
+        if (!element || !element.isConnected) {
+            return false;
+        }
+        var style = window.getComputedStyle(element);
+        return style.visibility !== 'hidden' && style.display !== 'none' && element.getClientRects().length > 0;
+    }
+
+    function text() {
+        var element = document.querySelector(selector);
+        return element ? element.textContent.trim() : null;
+    }
+
+    function check() {
+        switch (condition) {
+            case 'APPEAR':
+                return visible(document.querySelector(selector));
+            case 'DISAPPEAR':
+                return !visible(document.querySelector(selector));
+            case 'TEXT_CHANGE':
+                var current = text();
+                return current !== null && current !== previousText;
+            default:
+                throw new Error('Unknown wait condition: ' + condition);
+        }
+    }
+
+    return new Promise(function (resolve) {
+        if (check()) {
+            resolve({ satisfied: true, elapsedMs: performance.now() - start });
+            return;
+        }
+        var observer;
+        var timer = setTimeout(function () {
+            observer.disconnect();
+            resolve({ satisfied: false, elapsedMs: performance.now() - start });
+        }, timeoutMs);
+        observer = new MutationObserver(function () {
+            if (check()) {
+                clearTimeout(timer);
+                observer.disconnect();
+                resolve({ satisfied: true, elapsedMs: performance.now() - start });
+            }
+        });
+        observer.observe(document.documentElement, {
+            childList: true,
+            subtree: true,
+            attributes: true,
+            attributeFilter: ['class', 'style', 'hidden'],
+            characterData: true
+        });
+    });
+})
@@ -0,0 +1,80 @@
+// Core Web Vitals toplayıcı - her yeni dokümanda Page.addScriptToEvaluateOnNewDocument ile çalışır
+// Değerler PerformanceObserver ile toplanır ve Runtime.addBinding kanalı üzerinden anında gönderilir
+(function () {
+    // Script her frame'de çalışır; iframe'lerin kendi timeOrigin'leri ana sayfanın kayıtlarını bölmesin
+    if (window !== window.top) {
+        return;
+    }
+    if (window.__cdpVitalsInstalled) {
+        return;
+    }
+    window.__cdpVitalsInstalled = true;
+
+    var BINDING = '__BINDING_NAME__';
+    var navigationId = String(performance.timeOrigin);
+
+    function send(name, value) {
+        var binding = window[BINDING];
+        if (typeof binding !== 'function') {
+            return;
+        }
+        try {
+            binding(JSON.stringify({ navigationId: navigationId, url: location.href, name: name, value: value }));
+        } catch (e) {
+            // Binding kaldırılmış olabilir (oturum kapanıyor)
+        }
+    }
+
+    function observe(type, callback, options) {
+        try {
+            var observer = new PerformanceObserver(function (list) {
+                list.getEntries().forEach(callback);
+            });
+            var init = { type: type, buffered: true };
+            for (var key in options || {}) {
+                init[key] = options[key];
+            }
+            observer.observe(init);
+        } catch (e) {
+            // Tarayıcı bu entry tipini desteklemiyor
+        }
+    }
+
+    observe('navigation', function (entry) {
+        send('TTFB', entry.responseStart);
+    });
+
+    observe('paint', function (entry) {
+        if (entry.name === 'first-contentful-paint') {
+            send('FCP', entry.startTime);
+        }
+    });
+
+    observe('largest-contentful-paint', function (entry) {
+        send('LCP', entry.renderTime || entry.loadTime || entry.startTime);
+    });
+
+    var cumulativeLayoutShift = 0;
+    observe('layout-shift', function (entry) {
+        if (!entry.hadRecentInput) {
+            cumulativeLayoutShift += entry.value;
+            send('CLS', cumulativeLayoutShift);
+        }
+    });
+
+    observe('first-input', function (entry) {
+        send('FID', entry.processingStart - entry.startTime);
+    });
+
+    var slowestInteraction = 0;
+    observe('event', function (entry) {
+        if (entry.interactionId && entry.duration > slowestInteraction) {
+            slowestInteraction = entry.duration;
+            send('INP', slowestInteraction);
+        }
+    }, { durationThreshold: 16 });
+
+    observe('longtask', function (entry) {
+        send('LONG_TASK', entry.duration);
+    });
+})();